@@ -0,0 +1,50 @@
+package com.proactiva.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks dos caminhos críticos com o GCProfiler (ops/s e taxa de alocação)
+ * e grava o resultado em JSON, para comparação com o baseline versionado em
+ * {@code benchmarks/baseline/}.
+ *
+ * Uso: {@code java -cp benchmarks/target/benchmarks.jar com.proactiva.benchmark.BaselineRunner [arquivo.json]}
+ */
+public final class BaselineRunner {
+
+    /**
+     * Benchmarks incluídos no baseline. O StreamingExportBenchmark fica de fora por
+     * levar minutos e medir memória de pico, e não vazão.
+     */
+    static final String[] HOT_PATHS = {
+            "RowMappingBenchmark",
+            "TaskValidationBenchmark",
+            "PasswordHashBenchmark",
+            "TokenServiceBenchmark",
+            "JsonSerializationBenchmark",
+            "ExceptionMapperBenchmark"
+    };
+
+    private BaselineRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String output = args.length > 0 ? args[0] : "benchmarks/baseline/hot-paths.json";
+
+        OptionsBuilder builder = new OptionsBuilder();
+        for (String benchmark : HOT_PATHS) {
+            builder.include("\\." + benchmark + "\\.");
+        }
+
+        Options options = builder
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(output)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.proactiva.benchmark;
+
+import com.proactiva.exception.BenchmarkMappers;
+import com.proactiva.exception.GlobalExceptionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.core.Response;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de transformar exceções em respostas de erro no {@link GlobalExceptionMapper},
+ * incluindo a criação da exceção (com stack trace) e o contador de exceções, como acontece em uma
+ * requisição inválida.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionMapperBenchmark {
+
+    private GlobalExceptionMapper mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = BenchmarkMappers.globalExceptionMapper();
+    }
+
+    @Benchmark
+    public Response badRequest() {
+        return mapper.toResponse(new IllegalArgumentException("Categoria inválida"));
+    }
+
+    @Benchmark
+    public Response internalError() {
+        return mapper.toResponse(new SQLException("ORA-12541: TNS:no listener"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.proactiva.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Teste de carga HTTP em modelo fechado: {@code concurrency} clientes fazendo GETs em sequência
+ * contra a API em execução. Reporta vazão, p50/p99/máximo e respostas por status (inclusive os
+ * 503 do limitador de concorrência).
+ *
+ * Usado para comparar o pool de workers padrão com as virtual threads:
+ *
+ * <pre>
+ * java -jar target/quarkus-app/quarkus-run.jar
+ * java -cp benchmarks/target/benchmarks.jar com.proactiva.benchmark.HttpLoadTest \
+ *     http://localhost:8080/api/tasks/user/{1-50} 400 60
+ *
+ * QUARKUS_VIRTUAL_THREADS_ENABLED=true java -jar target/quarkus-app/quarkus-run.jar   (JDK 21+)
+ * (mesmo comando de carga)
+ * </pre>
+ *
+ * Argumentos: URL (um trecho {@code {a-b}} é trocado por um número aleatório do intervalo),
+ * quantidade de clientes simultâneos (padrão 200) e duração em segundos (padrão 30). Os
+ * primeiros 10 segundos são de aquecimento e não entram no resultado.
+ */
+public final class HttpLoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    private HttpLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Uso: HttpLoadTest <url> [clientes] [segundos]");
+            System.exit(1);
+        }
+
+        String url = args[0];
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 50)))
+                .build();
+
+        long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<ClientResult>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> runClient(client, url, warmupEnd, end)));
+        }
+
+        ClientResult total = new ClientResult();
+        for (Future<ClientResult> future : futures) {
+            total.merge(future.get());
+        }
+        clients.shutdown();
+
+        long[] latencies = Arrays.copyOf(total.latencies, total.count);
+        Arrays.sort(latencies);
+
+        System.out.printf("Clientes: %d, duração: %ds%n", concurrency, duration.toSeconds());
+        System.out.printf("Requisições: %d (%.1f req/s)%n", total.count, total.count / (double) duration.toSeconds());
+        System.out.printf("Latência p50: %.1f ms, p99: %.1f ms, máx: %.1f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+        System.out.printf("2xx: %d, 503: %d, outros status: %d, erros de conexão: %d%n",
+                total.ok, total.unavailable, total.otherStatus, total.errors);
+        System.exit(0);
+    }
+
+    private static ClientResult runClient(HttpClient client, String url, long warmupEnd, long end) {
+        ClientResult result = new ClientResult();
+
+        while (System.nanoTime() < end) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(expand(url)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (start >= warmupEnd) {
+                result.record(status, elapsed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Troca um trecho {@code {a-b}} da URL por um número aleatório entre a e b.
+     */
+    private static String expand(String url) {
+        int open = url.indexOf('{');
+        int close = url.indexOf('}', open);
+        if (open < 0 || close < 0) {
+            return url;
+        }
+        String[] range = url.substring(open + 1, close).split("-");
+        long value = ThreadLocalRandom.current().nextLong(Long.parseLong(range[0]), Long.parseLong(range[1]) + 1);
+        return url.substring(0, open) + value + url.substring(close + 1);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * Latências e contagem de status de um cliente.
+     */
+    private static final class ClientResult {
+
+        long[] latencies = new long[1024];
+        int count;
+        long ok;
+        long unavailable;
+        long otherStatus;
+        long errors;
+
+        void record(int status, long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+
+            if (status < 0) {
+                errors++;
+            } else if (status >= 200 && status < 300) {
+                ok++;
+            } else if (status == 503) {
+                unavailable++;
+            } else {
+                otherStatus++;
+            }
+        }
+
+        void merge(ClientResult other) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            ok += other.ok;
+            unavailable += other.unavailable;
+            otherStatus += other.otherStatus;
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.proactiva.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proactiva.dto.AuthResponse;
+import com.proactiva.model.Task;
+import com.proactiva.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson das respostas mais frequentes: listas de tarefas (GET /api/tasks/user/{id})
+ * e respostas de autenticação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private List<AuthResponse> authResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkSupport.objectMapper();
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        tasks = new ArrayList<>(size);
+        authResponses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task((long) (i % 10), "Tarefa " + i, "d".repeat(200),
+                    "TRABALHO", "MEDIA", "EM_ANDAMENTO", now.plusDays(i));
+            task.setId((long) i);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            tasks.add(task);
+
+            User user = new User("usuario" + i, "usuario" + i + "@example.com", null);
+            user.setId((long) i);
+            authResponses.add(new AuthResponse(user, "Login realizado com sucesso", "x".repeat(600)));
+        }
+    }
+
+    @Benchmark
+    public byte[] taskList() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] authResponseList() throws Exception {
+        return objectMapper.writeValueAsBytes(authResponses);
+    }
+}
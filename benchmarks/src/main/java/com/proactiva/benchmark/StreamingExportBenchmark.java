@@ -0,0 +1,114 @@
+package com.proactiva.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proactiva.dao.BenchmarkDatabase;
+import com.proactiva.dao.TaskDAO;
+import com.proactiva.model.Task;
+import com.proactiva.resource.JsonStreamingOutput;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a exportação de GET /api/tasks carregando a lista inteira em memória (caminho antigo)
+ * com o streaming direto do ResultSet (JSON e NDJSON).
+ *
+ * Além do tempo total, reporta o pico de heap (MB acima do uso antes da operação)
+ * e o tempo até o primeiro byte (ms).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StreamingExportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    private BenchmarkDatabase database;
+    private TaskDAO taskDAO;
+    private ObjectMapper objectMapper;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ExportMetrics {
+        public double peakHeapMb;
+        public double timeToFirstByteMs;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase();
+        database.seedTasks(rows, 100, 200);
+        taskDAO = database.taskDAO();
+        objectMapper = BenchmarkSupport.objectMapper();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void collectGarbage() {
+        System.gc();
+    }
+
+    @Benchmark
+    public long buffered(ExportMetrics metrics) throws Exception {
+        long baseline = BenchmarkSupport.resetPeakHeap();
+        long start = System.nanoTime();
+        BenchmarkSupport.FirstByteOutputStream out = new BenchmarkSupport.FirstByteOutputStream();
+
+        List<Task> tasks = new ArrayList<>();
+        taskDAO.streamAll(tasks::add);
+        objectMapper.writeValue(out, tasks);
+
+        record(metrics, baseline, start, out);
+        return out.getBytes();
+    }
+
+    @Benchmark
+    public long streamingJson(ExportMetrics metrics) throws Exception {
+        return stream(metrics, JsonStreamingOutput.Format.JSON);
+    }
+
+    @Benchmark
+    public long streamingNdjson(ExportMetrics metrics) throws Exception {
+        return stream(metrics, JsonStreamingOutput.Format.NDJSON);
+    }
+
+    private long stream(ExportMetrics metrics, JsonStreamingOutput.Format format) throws Exception {
+        long baseline = BenchmarkSupport.resetPeakHeap();
+        long start = System.nanoTime();
+        BenchmarkSupport.FirstByteOutputStream out = new BenchmarkSupport.FirstByteOutputStream();
+
+        new JsonStreamingOutput<>(objectMapper, format, taskDAO::streamAll).write(out);
+
+        record(metrics, baseline, start, out);
+        return out.getBytes();
+    }
+
+    private static void record(ExportMetrics metrics, long baseline, long start,
+                               BenchmarkSupport.FirstByteOutputStream out) {
+        metrics.peakHeapMb = (BenchmarkSupport.peakHeap() - baseline) / (1024.0 * 1024.0);
+        metrics.timeToFirstByteMs = (out.getFirstByteNanos() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.proactiva.benchmark;
+
+import com.proactiva.logging.SamplingLogFilter;
+import com.proactiva.model.Task;
+import org.jboss.logging.Logger;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.handlers.OutputStreamHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do log de uma atualização de tarefa (PUT /api/tasks/{id}) por requisição, com 4 threads:
+ * os cinco System.out.println usados antes no TaskBO.update() (um deles com a descrição inteira)
+ * contra o Logger do TaskBO atual, com console assíncrono e amostragem de 10% em com.proactiva.bo.
+ *
+ * A saída vai para /dev/null, então o custo do console real (terminal, pipe do container) fica de fora
+ * e a diferença medida é um limite inferior.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager")
+@Threads(4)
+public class UpdateLoggingBenchmark {
+
+    private static final String QUARKUS_CONSOLE_FORMAT = "%d{HH:mm:ss,SSS} %-5p [%c{3.}] (%t) %s%e%n";
+
+    @Param({"200", "20000"})
+    int descriptionLength;
+
+    private Task task;
+    private PrintStream legacyConsole;
+    private AsyncHandler asyncHandler;
+    private Logger sampledLogger;
+    private Logger unsampledLogger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        task = new Task(1L, "Preparar apresentação", "d".repeat(descriptionLength),
+                "TRABALHO", "MEDIA", "EM_ANDAMENTO", now.plusDays(3));
+        task.setId(42L);
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+
+        // Mesma configuração do System.out: buffer pequeno e flush a cada println
+        legacyConsole = new PrintStream(new BufferedOutputStream(new FileOutputStream("/dev/null"), 128),
+                true, StandardCharsets.UTF_8);
+
+        OutputStreamHandler console = new OutputStreamHandler(new FileOutputStream("/dev/null"),
+                new PatternFormatter(QUARKUS_CONSOLE_FORMAT));
+        console.setAutoFlush(true);
+        asyncHandler = new AsyncHandler(4096);
+        asyncHandler.setOverflowAction(AsyncHandler.OverflowAction.DISCARD);
+        asyncHandler.setFilter(new SamplingLogFilter("com.proactiva.bo=0.1"));
+        asyncHandler.addHandler(console);
+
+        org.jboss.logmanager.Logger root = LogContext.getLogContext().getLogger("");
+        for (java.util.logging.Handler handler : root.getHandlers()) {
+            root.removeHandler(handler);
+        }
+        root.addHandler(asyncHandler);
+        LogContext.getLogContext().getLogger("com.proactiva").setLevel(java.util.logging.Level.INFO);
+
+        sampledLogger = Logger.getLogger("com.proactiva.bo.TaskBO");
+        unsampledLogger = Logger.getLogger("com.proactiva.resource.TaskResource");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncHandler.close();
+        legacyConsole.close();
+    }
+
+    /**
+     * O que o TaskBO.update() imprimia: cinco linhas síncronas, uma com Task.toString() completo.
+     */
+    @Benchmark
+    public void legacyConsole() {
+        Long id = task.getId();
+        legacyConsole.println("TaskBO.update() - Iniciando atualização para ID: " + id);
+        legacyConsole.println("TaskBO.update() - Dados recebidos: " + legacyToString(task));
+        legacyConsole.println("TaskBO.update() - Status anterior: " + task.getStatus());
+        legacyConsole.println("TaskBO.update() - Tarefa atualizada com sucesso: " + id);
+        legacyConsole.println("TaskBO.update() - Histórico enfileirado");
+    }
+
+    /**
+     * Os registros do TaskBO.update() atual: DEBUG desligado e uma linha INFO, amostrada.
+     */
+    @Benchmark
+    public void asyncSampled() {
+        logUpdate(sampledLogger);
+    }
+
+    /**
+     * Mesmo caminho, sem amostragem: todas as linhas INFO chegam ao console assíncrono.
+     */
+    @Benchmark
+    public void asyncUnsampled() {
+        logUpdate(unsampledLogger);
+    }
+
+    private void logUpdate(Logger log) {
+        Long id = task.getId();
+        log.debugf("Iniciando atualização da tarefa %d: %s", id, task);
+        log.infof("Tarefa %d atualizada (status %s -> %s)", id, task.getStatus(), task.getStatus());
+        log.debugf("Histórico da tarefa %d enfileirado", id);
+    }
+
+    /**
+     * Formato do Task.toString() anterior, com a descrição inteira.
+     */
+    private static String legacyToString(Task task) {
+        return "Task{" +
+                "id=" + task.getId() +
+                ", userId=" + task.getUserId() +
+                ", title='" + task.getTitle() + '\'' +
+                ", description='" + task.getDescription() + '\'' +
+                ", category='" + task.getCategory() + '\'' +
+                ", priority='" + task.getPriority() + '\'' +
+                ", status='" + task.getStatus() + '\'' +
+                ", dueDate=" + task.getDueDate() +
+                ", completedAt=" + task.getCompletedAt() +
+                ", createdAt=" + task.getCreatedAt() +
+                ", updatedAt=" + task.getUpdatedAt() +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.proactiva.bo;
+
+import com.proactiva.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das validações de categoria, prioridade e status do TaskBO, no caminho válido
+ * e no caminho de rejeição (que cria a IllegalArgumentException e a mensagem de erro).
+ * Fica no pacote bo para acessar o método package-private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskValidationBenchmark {
+
+    private TaskBO taskBO;
+    private Task validTask;
+    private Task invalidTask;
+
+    @Setup
+    public void setUp() {
+        taskBO = new TaskBO();
+
+        validTask = new Task(1L, "Estudar para a certificação", "Revisar simulados",
+                "CERTIFICACAO", "ALTA", "EM_ANDAMENTO", null);
+        invalidTask = new Task(1L, "Tarefa inválida", null, "FERIAS", "ALTA", "EM_ANDAMENTO", null);
+    }
+
+    @Benchmark
+    public Task validTask() {
+        taskBO.validateNewTask(validTask);
+        return validTask;
+    }
+
+    @Benchmark
+    public String invalidCategory() {
+        try {
+            taskBO.validateNewTask(invalidTask);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.proactiva.dao;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Banco H2 em memória (modo Oracle) usado como substituto do Oracle nos benchmarks.
+ * Fica no pacote dao para poder injetar o DataSource nos campos package-private dos DAOs.
+ */
+public class BenchmarkDatabase {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final JdbcDataSource dataSource;
+    private final DatabaseConnection databaseConnection;
+
+    public BenchmarkDatabase() throws SQLException, IOException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bench" + COUNTER.incrementAndGet() + ";MODE=Oracle;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=1");
+
+        databaseConnection = new DatabaseConnection();
+        databaseConnection.dataSource = dataSource;
+        databaseConnection.registry = new SimpleMeterRegistry();
+        databaseConnection.leakDetectionThreshold = Duration.ZERO;
+        databaseConnection.init();
+
+        try (InputStream in = BenchmarkDatabase.class.getResourceAsStream("/benchmark-schema.sql");
+             Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            for (String sql : script.split(";")) {
+                String statement = sql.replaceAll("(?m)^--.*$", "").trim();
+                if (!statement.isEmpty()) {
+                    stmt.execute(statement);
+                }
+            }
+        }
+    }
+
+    /**
+     * Insere tarefas sintéticas distribuídas entre {@code users} usuários.
+     *
+     * @param rows quantidade de tarefas
+     * @param users quantidade de usuários
+     * @param descriptionLength tamanho da descrição (CLOB) de cada tarefa
+     */
+    public void seedTasks(int rows, int users, int descriptionLength) throws SQLException {
+        String sql = "INSERT INTO TASKS (ID, USER_ID, TITLE, DESCRIPTION, CATEGORY, PRIORITY, STATUS, DUE_DATE, " +
+                "CREATED_AT, UPDATED_AT) " +
+                "SELECT X, MOD(X, ?) + 1, 'Tarefa ' || X, REPEAT('d', ?), 'TRABALHO', 'MEDIA', " +
+                "CASE WHEN MOD(X, 3) = 0 THEN 'CONCLUIDO' ELSE 'EM_ANDAMENTO' END, " +
+                "DATEADD('DAY', MOD(X, 30), TIMESTAMP '2025-01-01 00:00:00'), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, ?)";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, users);
+            stmt.setInt(2, descriptionLength);
+            stmt.setInt(3, rows);
+            stmt.executeUpdate();
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER SEQUENCE TASKS_SEQ RESTART WITH " + (rows + 1));
+        }
+    }
+
+    /**
+     * Insere registros de histórico sintéticos.
+     *
+     * @param rows quantidade de registros
+     */
+    public void seedHistory(int rows) throws SQLException {
+        String sql = "INSERT INTO TASK_HISTORY (TASK_ID, ACTION, OLD_STATUS, NEW_STATUS, DESCRIPTION, CHANGED_AT) " +
+                "SELECT X, 'CRIADA', NULL, 'EM_ANDAMENTO', 'Tarefa criada: Tarefa ' || X, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') FROM SYSTEM_RANGE(1, ?)";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, rows);
+            stmt.executeUpdate();
+        }
+    }
+
+    public JdbcDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public DatabaseConnection getDatabaseConnection() {
+        return databaseConnection;
+    }
+
+    public TaskDAO taskDAO() {
+        TaskDAO dao = new TaskDAO();
+        dao.databaseConnection = databaseConnection;
+        dao.idAllocator = new SequenceIdAllocator();
+        return dao;
+    }
+
+    public TaskHistoryDAO taskHistoryDAO() {
+        TaskHistoryDAO dao = new TaskHistoryDAO();
+        dao.databaseConnection = databaseConnection;
+        return dao;
+    }
+
+    public UserDAO userDAO() {
+        UserDAO dao = new UserDAO();
+        dao.databaseConnection = databaseConnection;
+        return dao;
+    }
+
+    /**
+     * Remove o banco em memória.
+     */
+    public void shutdown() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
+    }
+}
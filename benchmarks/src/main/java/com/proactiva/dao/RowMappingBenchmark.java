@@ -0,0 +1,120 @@
+package com.proactiva.dao;
+
+import com.proactiva.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o mapeamento de linhas por nome de coluna (implementação antiga, com SELECT *)
+ * com os mapeadores posicionais dos DAOs, sobre o mesmo ResultSet real do H2.
+ *
+ * O ResultSet é rolável e reposicionado a cada operação, para que o custo medido seja
+ * apenas o do mapeamento, e não o da execução da consulta.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"1000"})
+    int rows;
+
+    private BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase();
+        database.seedTasks(rows, 1, 200);
+
+        connection = database.getDataSource().getConnection();
+        statement = connection.prepareStatement(
+                "SELECT " + TaskDAO.TASK_COLUMNS + " FROM TASKS ORDER BY CREATED_AT DESC, ID DESC",
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        resultSet = statement.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        resultSet.close();
+        statement.close();
+        connection.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public void byColumnName(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(mapByName(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void byPosition(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(TaskDAO.TASK_MAPPER.map(resultSet));
+        }
+    }
+
+    /**
+     * Cópia do mapeamento anterior do TaskDAO, que resolvia cada coluna pelo nome.
+     */
+    private static Task mapByName(ResultSet rs) throws SQLException {
+        Task task = new Task();
+        task.setId(rs.getLong("ID"));
+        task.setUserId(rs.getLong("USER_ID"));
+        task.setTitle(rs.getString("TITLE"));
+        task.setDescription(rs.getString("DESCRIPTION"));
+        task.setCategory(rs.getString("CATEGORY"));
+        task.setPriority(rs.getString("PRIORITY"));
+        task.setStatus(rs.getString("STATUS"));
+
+        Timestamp dueDate = rs.getTimestamp("DUE_DATE");
+        if (dueDate != null) {
+            task.setDueDate(dueDate.toLocalDateTime());
+        }
+
+        Timestamp completedAt = rs.getTimestamp("COMPLETED_AT");
+        if (completedAt != null) {
+            task.setCompletedAt(completedAt.toLocalDateTime());
+        }
+
+        Timestamp createdAt = rs.getTimestamp("CREATED_AT");
+        if (createdAt != null) {
+            task.setCreatedAt(createdAt.toLocalDateTime());
+        }
+
+        Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
+        if (updatedAt != null) {
+            task.setUpdatedAt(updatedAt.toLocalDateTime());
+        }
+
+        return task;
+    }
+}
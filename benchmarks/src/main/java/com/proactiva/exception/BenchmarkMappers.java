@@ -0,0 +1,19 @@
+package com.proactiva.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cria os exception mappers da aplicação fora do Quarkus.
+ * Fica no pacote exception para poder preencher os campos package-private injetados pelo CDI.
+ */
+public final class BenchmarkMappers {
+
+    private BenchmarkMappers() {
+    }
+
+    public static GlobalExceptionMapper globalExceptionMapper() {
+        GlobalExceptionMapper mapper = new GlobalExceptionMapper();
+        mapper.registry = new SimpleMeterRegistry();
+        return mapper;
+    }
+}
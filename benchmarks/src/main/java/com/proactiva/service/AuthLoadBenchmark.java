@@ -0,0 +1,118 @@
+package com.proactiva.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.proactiva.dao.BenchmarkDatabase;
+import com.proactiva.dao.TaskDAO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga mista: uma tempestade de logins (verificação de senha PBKDF2) concorrendo com leituras
+ * de tarefas (consulta + serialização JSON, como em GET /api/tasks/{id}).
+ *
+ * Compara a verificação na própria thread da requisição ({@code caller}, comportamento anterior)
+ * com o pool de autenticação limitado ({@code pool}). Em modo SampleTime o JMH reporta os
+ * percentis (p99 incluso) de cada método do grupo; {@code tasksOnly} é a referência de latência
+ * das leituras sem logins concorrentes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class AuthLoadBenchmark {
+
+    private static final String PASSWORD = "senha-de-teste-123";
+    private static final int TASKS = 1000;
+
+    @Param({"caller", "pool"})
+    String mode;
+
+    @Param({"100000"})
+    int iterations;
+
+    private BenchmarkDatabase database;
+    private TaskDAO taskDAO;
+    private ObjectMapper objectMapper;
+    private PasswordHasher passwordHasher;
+    private AuthExecutor authExecutor;
+    private String storedHash;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase();
+        database.seedTasks(TASKS, 10, 200);
+        taskDAO = database.taskDAO();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        passwordHasher = new PasswordHasher();
+        passwordHasher.iterations = iterations;
+        storedHash = passwordHasher.hash(PASSWORD);
+
+        authExecutor = new AuthExecutor();
+        authExecutor.registry = new SimpleMeterRegistry();
+        authExecutor.parallelism = 0;
+        authExecutor.queueCapacity = 64;
+        authExecutor.timeout = Duration.ofSeconds(30);
+        authExecutor.retryAfterSeconds = 1;
+        authExecutor.init();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        authExecutor.shutdown();
+        database.shutdown();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public boolean login() {
+        if ("pool".equals(mode)) {
+            return authExecutor.call(() -> passwordHasher.verify(PASSWORD, storedHash));
+        }
+        return passwordHasher.verify(PASSWORD, storedHash);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public byte[] taskRead() throws Exception {
+        return readTask();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public byte[] tasksOnly() throws Exception {
+        return readTask();
+    }
+
+    private byte[] readTask() throws Exception {
+        long id = ThreadLocalRandom.current().nextLong(1, TASKS + 1);
+        return objectMapper.writeValueAsBytes(taskDAO.findById(id).orElseThrow());
+    }
+}
@@ -0,0 +1,54 @@
+package com.proactiva.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do hash de senha usado no cadastro e no login ({@link PasswordHasher}) para
+ * diferentes fatores de trabalho. Fica no pacote service para configurar as iterações
+ * diretamente no campo package-private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "senha-de-teste-123";
+
+    @Param({"10000", "310000"})
+    int iterations;
+
+    private PasswordHasher passwordHasher;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        passwordHasher = new PasswordHasher();
+        passwordHasher.iterations = iterations;
+        storedHash = passwordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return passwordHasher.verify(PASSWORD, storedHash);
+    }
+}
@@ -0,0 +1,150 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.BenchmarkDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca de duas palavras nas tarefas de um usuário: LIKE '%x%' sobre título e descrição no banco
+ * (a alternativa sem índice) contra o {@link TaskSearchIndex}.
+ *
+ * O H2 em memória não tem a latência de rede nem a leitura de LOB do Oracle, então a diferença
+ * medida para o LIKE é um limite inferior.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "ra", "te", "lo", "mi", "su", "ca", "de", "po", "ni", "ve", "ba", "to", "gu", "fe", "li", "mo"};
+
+    @Param({"20000"})
+    int rows;
+
+    @Param({"20"})
+    int users;
+
+    private BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement likeStatement;
+    private TaskSearchIndex index;
+    private String[] terms;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase();
+
+        Random random = new Random(42);
+        String[] vocabulary = new String[2000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = SYLLABLES[i % 16] + SYLLABLES[(i / 16) % 16] + SYLLABLES[(i / 256) % 16] + "s";
+        }
+        seed(vocabulary, random);
+
+        index = new TaskSearchIndex();
+        index.taskDAO = database.taskDAO();
+        index.registry = new SimpleMeterRegistry();
+        index.rebuild();
+
+        // Duas palavras frequentes o bastante para aparecerem juntas em várias tarefas
+        terms = new String[]{vocabulary[3], vocabulary[7]};
+
+        connection = database.getDataSource().getConnection();
+        likeStatement = connection.prepareStatement(
+                "SELECT ID, TITLE FROM TASKS WHERE USER_ID = ? " +
+                        "AND (LOWER(TITLE) LIKE ? OR LOWER(DESCRIPTION) LIKE ?) " +
+                        "AND (LOWER(TITLE) LIKE ? OR LOWER(DESCRIPTION) LIKE ?) " +
+                        "ORDER BY CREATED_AT DESC FETCH FIRST 20 ROWS ONLY");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        likeStatement.close();
+        connection.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public void likeScan(Blackhole blackhole) throws SQLException {
+        likeStatement.setLong(1, 1L);
+        likeStatement.setString(2, "%" + terms[0] + "%");
+        likeStatement.setString(3, "%" + terms[0] + "%");
+        likeStatement.setString(4, "%" + terms[1] + "%");
+        likeStatement.setString(5, "%" + terms[1] + "%");
+        try (ResultSet rs = likeStatement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getString(2));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<?> invertedIndex() {
+        return index.search(1L, terms[0] + " " + terms[1], 20);
+    }
+
+    /**
+     * Tarefas com título de 4 palavras e descrição de 60, sorteadas do vocabulário com
+     * distribuição enviesada (algumas palavras são bem mais comuns que outras).
+     */
+    private void seed(String[] vocabulary, Random random) throws SQLException {
+        String sql = "INSERT INTO TASKS (ID, USER_ID, TITLE, DESCRIPTION, CATEGORY, PRIORITY, STATUS, " +
+                "CREATED_AT, UPDATED_AT) VALUES (?, ?, ?, ?, 'TRABALHO', 'MEDIA', 'EM_ANDAMENTO', ?, ?)";
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        try (Connection conn = database.getDataSource().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int id = 1; id <= rows; id++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(id));
+                stmt.setLong(1, id);
+                stmt.setLong(2, id % users + 1);
+                stmt.setString(3, words(vocabulary, random, 4));
+                stmt.setString(4, words(vocabulary, random, 60));
+                stmt.setTimestamp(5, createdAt);
+                stmt.setTimestamp(6, createdAt);
+                stmt.addBatch();
+                if (id % 1000 == 0) {
+                    stmt.executeBatch();
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private static String words(String[] vocabulary, Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double skewed = Math.pow(random.nextDouble(), 3);
+            text.append(i == 0 ? "" : " ").append(vocabulary[(int) (skewed * vocabulary.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.proactiva.service;
+
+import com.proactiva.benchmark.BenchmarkSupport;
+import com.proactiva.model.User;
+import io.smallrye.jwt.build.Jwt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão de JWT no login: builder do SmallRye (implementação anterior, que resolve a chave e
+ * a configuração a cada token) contra o {@link TokenService} com chave pré-carregada e claims
+ * constantes pré-serializadas, com e sem reaproveitamento de token.
+ *
+ * Rodar com {@code -prof gc} para ver a alocação por token (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private TokenService reusingTokenService;
+    private User user;
+
+    @Setup
+    public void setUp() throws Exception {
+        String keyLocation = BenchmarkSupport.configureJwtSigningKey();
+
+        JwtSigner jwtSigner = new JwtSigner();
+        jwtSigner.keyLocation = keyLocation;
+        jwtSigner.keyId = Optional.of("k1");
+        jwtSigner.init();
+
+        tokenService = newTokenService(jwtSigner, Duration.ZERO);
+        reusingTokenService = newTokenService(jwtSigner, Duration.ofMinutes(5));
+
+        user = new User("maria.silva", "maria.silva@example.com", null);
+        user.setId(42L);
+    }
+
+    @Benchmark
+    public String smallRyeBuilder() {
+        return Jwt.issuer("proactiva-issuer")
+                .subject(user.getUsername())
+                .upn(user.getEmail())
+                .groups(Set.of("user"))
+                .expiresIn(Duration.ofHours(24).toSeconds())
+                .claim("userId", user.getId())
+                .sign();
+    }
+
+    @Benchmark
+    public String preInitialized() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String reused() {
+        return reusingTokenService.generateToken(user);
+    }
+
+    private static TokenService newTokenService(JwtSigner jwtSigner, Duration reuseWindow) {
+        TokenService service = new TokenService();
+        service.jwtSigner = jwtSigner;
+        service.issuer = "proactiva-issuer";
+        service.lifetime = Duration.ofHours(24);
+        service.reuseWindow = reuseWindow;
+        service.reuseMaximumSize = 10000;
+        service.init();
+        return service;
+    }
+}
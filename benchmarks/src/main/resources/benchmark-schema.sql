@@ -0,0 +1,45 @@
+-- Esquema mínimo equivalente ao do Oracle para os benchmarks (H2 em modo Oracle)
+-- Blocos de 50 IDs por NEXTVAL no SequenceIdAllocator, como no Oracle após a migração do README
+CREATE SEQUENCE TASKS_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE USERS (
+    ID NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    USERNAME VARCHAR2(50) NOT NULL UNIQUE,
+    EMAIL VARCHAR2(100) NOT NULL UNIQUE,
+    PASSWORD VARCHAR2(255) NOT NULL,
+    FIRST_NAME VARCHAR2(50),
+    LAST_NAME VARCHAR2(50),
+    IS_ACTIVE NUMBER(1) DEFAULT 1,
+    CREATED_AT TIMESTAMP NOT NULL,
+    UPDATED_AT TIMESTAMP NOT NULL
+);
+
+CREATE TABLE TASKS (
+    ID NUMBER PRIMARY KEY,
+    USER_ID NUMBER NOT NULL,
+    TITLE VARCHAR2(255) NOT NULL,
+    DESCRIPTION CLOB,
+    CATEGORY VARCHAR2(50) NOT NULL,
+    PRIORITY VARCHAR2(50) NOT NULL,
+    STATUS VARCHAR2(50) NOT NULL,
+    DUE_DATE TIMESTAMP,
+    COMPLETED_AT TIMESTAMP,
+    CREATED_AT TIMESTAMP NOT NULL,
+    UPDATED_AT TIMESTAMP NOT NULL
+);
+
+CREATE INDEX TASKS_USER_CREATED_IDX ON TASKS (USER_ID, CREATED_AT DESC, ID DESC);
+
+CREATE TABLE TASK_HISTORY (
+    HISTORY_ID NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    TASK_ID NUMBER NOT NULL,
+    ACTION VARCHAR2(50) NOT NULL,
+    OLD_STATUS VARCHAR2(50),
+    NEW_STATUS VARCHAR2(50),
+    DESCRIPTION CLOB,
+    CHANGED_AT TIMESTAMP NOT NULL
+);
+
+-- Visão equivalente à USER_SEQUENCES do Oracle, usada pelo SequenceIdAllocator
+CREATE VIEW USER_SEQUENCES AS
+    SELECT SEQUENCE_NAME, "INCREMENT" AS INCREMENT_BY FROM INFORMATION_SCHEMA.SEQUENCES;
@@ -1,30 +1,123 @@
 package com.proactiva.bo;
 
+import com.proactiva.cache.TaskCache;
+import com.proactiva.cache.TaskStatsCache;
+import com.proactiva.dao.DatabaseConnection;
+import com.proactiva.dao.RowHandler;
 import com.proactiva.dao.TaskDAO;
 import com.proactiva.dao.TaskHistoryDAO;
+import com.proactiva.dao.TaskProjection;
+import com.proactiva.dao.UnitOfWork;
+import com.proactiva.dto.BatchItemResult;
+import com.proactiva.dto.BatchResponse;
+import com.proactiva.dto.PageResponse;
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.dto.TaskChangeEvent;
+import com.proactiva.dto.TaskCursor;
+import com.proactiva.dto.TaskSearchResult;
+import com.proactiva.dto.TaskStats;
 import com.proactiva.model.Task;
 import com.proactiva.model.TaskHistory;
+import com.proactiva.service.DueDateScheduler;
+import com.proactiva.service.TaskChangeFeed;
+import com.proactiva.service.TaskHistoryRecorder;
+import com.proactiva.service.TaskSearchIndex;
+import com.proactiva.service.TaskVersions;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.jboss.logging.Logger;
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Business Object para a entidade Task.
  * Contém a lógica de negócio, validações e gerenciamento de histórico.
+ *
+ * As operações de escrita rodam em uma {@link UnitOfWork}: uma conexão e um commit por operação.
+ * Invalidação de cache e histórico só acontecem depois do commit.
  */
 @ApplicationScoped
 public class TaskBO {
 
+    /**
+     * Quantidade máxima de tarefas aceitas em uma criação em lote.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Quantidade de resultados da busca quando o cliente não informa "limit".
+     */
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+
+    /**
+     * Quantidade máxima de resultados da busca.
+     */
+    public static final int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * Tamanho máximo do texto da busca e do prefixo das sugestões.
+     */
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    /**
+     * Quantidade de sugestões de título quando o cliente não informa "limit".
+     */
+    public static final int DEFAULT_SUGGEST_LIMIT = 10;
+
+    /**
+     * Quantidade máxima de sugestões de título.
+     */
+    public static final int MAX_SUGGEST_LIMIT = 50;
+
+    private static final Logger LOG = Logger.getLogger(TaskBO.class);
+
     @Inject
     TaskDAO taskDAO;
 
     @Inject
     TaskHistoryDAO taskHistoryDAO;
 
+    @Inject
+    TaskHistoryRecorder historyRecorder;
+
+    @Inject
+    TaskCache taskCache;
+
+    @Inject
+    TaskStatsCache taskStatsCache;
+
+    @Inject
+    TaskVersions taskVersions;
+
+    @Inject
+    TaskSearchIndex searchIndex;
+
+    @Inject
+    DueDateScheduler dueDates;
+
+    @Inject
+    TaskChangeFeed changeFeed;
+
+    @Inject
+    DatabaseConnection databaseConnection;
+
+    @Inject
+    UnitOfWork unitOfWork;
+
+    @Inject
+    Validator validator;
+
     /**
      * Cria uma nova tarefa e registra no histórico.
      *
@@ -33,42 +126,116 @@ public class TaskBO {
      * @throws SQLException se houver erro na operação
      */
     public Task create(@Valid Task task) throws SQLException {
-        System.out.println("TaskBO.create() - Criando nova tarefa: " + task.getTitle());
+        LOG.debugf("Criando nova tarefa: %s", task.getTitle());
+
+        validateNewTask(task);
+
+        return unitOfWork.execute(() -> {
+            // Criar tarefa
+            Task createdTask = taskDAO.create(task);
+            TaskStatsCache.Delta statsDelta = TaskStatsCache.Delta.created(createdTask);
+            long version = taskVersions.next();
+
+            // Registrar no histórico (gravação assíncrona: uma falha no histórico não
+            // causa erro 500 na criação da tarefa, que já foi salva no banco)
+            unitOfWork.afterCommit(() -> {
+                taskCache.invalidate(null, createdTask.getUserId());
+                taskStatsCache.apply(statsDelta);
+                searchIndex.index(createdTask, version);
+                dueDates.track(createdTask, version);
+                changeFeed.publish(TaskChangeEvent.CREATED, createdTask, version);
+                historyRecorder.record(new TaskHistory(
+                        createdTask.getId(),
+                        "CRIADA",
+                        null,
+                        createdTask.getStatus(),
+                        "Tarefa criada: " + createdTask.getTitle()
+                ));
+            });
+
+            return createdTask;
+        });
+    }
 
-        // Validar status inicial
-        if (task.getStatus() == null || task.getStatus().isEmpty()) {
-            task.setStatus("EM_ANDAMENTO");
+    /**
+     * Cria várias tarefas de uma vez. Todos os itens são validados antes de qualquer escrita;
+     * os válidos são inseridos em batch junto com seus históricos "CRIADA", em uma única transação.
+     *
+     * @param tasks tarefas a serem criadas
+     * @return resultado de cada item, na ordem recebida
+     * @throws SQLException se houver erro na operação (nenhuma tarefa é criada)
+     * @throws IllegalArgumentException se o lote estiver vazio ou exceder {@link #MAX_BATCH_SIZE}
+     */
+    public BatchResponse createBatch(List<Task> tasks) throws SQLException {
+        if (tasks == null || tasks.isEmpty()) {
+            throw new IllegalArgumentException("Lista de tarefas vazia");
+        }
+        if (tasks.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Lote excede o máximo de " + MAX_BATCH_SIZE + " tarefas");
         }
 
-        // Validar categoria
-        validateCategory(task.getCategory());
-
-        // Validar prioridade
-        validatePriority(task.getPriority());
-
-        // Validar status
-        validateStatus(task.getStatus());
+        BatchItemResult[] results = new BatchItemResult[tasks.size()];
+        List<Task> validTasks = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                if (task == null) {
+                    throw new IllegalArgumentException("Tarefa não informada");
+                }
+                validateBean(task);
+                validateNewTask(task);
+                validTasks.add(task);
+                validIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = BatchItemResult.rejected(i, e.getMessage());
+            }
+        }
 
-        // Criar tarefa
-        Task createdTask = taskDAO.create(task);
-
-        // Registrar no histórico (Tratamento de erro para evitar que a falha no histórico
-        // cause um erro 500 na criação da tarefa, que já foi salva no banco)
-        try {
-            TaskHistory history = new TaskHistory(
-                    createdTask.getId(),
-                    "CRIADA",
-                    null,
-                    createdTask.getStatus(),
-                    "Tarefa criada: " + createdTask.getTitle()
-            );
-            taskHistoryDAO.create(history);
-        } catch (SQLException e) {
-            // Logar o erro, mas não re-lançar, pois a tarefa principal foi criada
-            System.err.println("Erro ao registrar histórico da tarefa " + createdTask.getId() + ": " + e.getMessage());
+        if (!validTasks.isEmpty()) {
+            unitOfWork.execute(() -> {
+                try (Connection conn = databaseConnection.getConnection()) {
+                    taskDAO.createBatch(conn, validTasks);
+
+                    List<TaskHistory> histories = new ArrayList<>();
+                    for (Task createdTask : validTasks) {
+                        histories.add(new TaskHistory(
+                                createdTask.getId(),
+                                "CRIADA",
+                                null,
+                                createdTask.getStatus(),
+                                "Tarefa criada: " + createdTask.getTitle()
+                        ));
+                    }
+                    taskHistoryDAO.createBatch(conn, histories);
+                }
+
+                List<TaskStatsCache.Delta> statsDeltas = new ArrayList<>();
+                for (Task createdTask : validTasks) {
+                    statsDeltas.add(TaskStatsCache.Delta.created(createdTask));
+                }
+                long version = taskVersions.next();
+
+                unitOfWork.afterCommit(() -> {
+                    for (Task createdTask : validTasks) {
+                        taskCache.invalidate(null, createdTask.getUserId());
+                        searchIndex.index(createdTask, version);
+                        dueDates.track(createdTask, version);
+                        changeFeed.publish(TaskChangeEvent.CREATED, createdTask, version);
+                    }
+                    statsDeltas.forEach(taskStatsCache::apply);
+                });
+                return null;
+            });
+
+            for (int i = 0; i < validTasks.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = BatchItemResult.created(index, validTasks.get(i));
+            }
         }
 
-        return createdTask;
+        return new BatchResponse(List.of(results));
     }
 
     /**
@@ -79,22 +246,148 @@ public class TaskBO {
      * @throws SQLException se houver erro na operação
      */
     public Optional<Task> findById(Long id) throws SQLException {
-        return taskDAO.findById(id);
+        return taskCache.getTask(id, () -> taskDAO.findById(id));
     }
 
     /**
-     * Lista todas as tarefas de um usuário.
+     * Lista todas as tarefas de um usuário, com a prévia no lugar da descrição.
      *
      * @param userId ID do usuário
      * @return lista de tarefas
      * @throws SQLException se houver erro na operação
      */
     public List<Task> findByUserId(Long userId) throws SQLException {
-        return taskDAO.findByUserId(userId);
+        return taskCache.getUserTasks(userId, () -> taskDAO.findByUserId(userId));
+    }
+
+    /**
+     * Lista as tarefas de um usuário com apenas os campos da projeção. Sem a descrição completa,
+     * a lista em cache atende qualquer projeção; senão lê só as colunas pedidas.
+     *
+     * @param userId ID do usuário
+     * @param projection campos pedidos
+     * @return lista de tarefas
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findByUserId(Long userId, TaskProjection projection) throws SQLException {
+        if (projection.isSummary()) {
+            return findByUserId(userId);
+        }
+        if (!projection.includesDescription()) {
+            Optional<List<Task>> cached = taskCache.peekUserTasks(userId);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        return taskDAO.findByUserId(userId, projection);
+    }
+
+    /**
+     * Versão atual de uma tarefa, para requisições condicionais. Usa a tarefa em cache, se houver;
+     * senão consulta só ID e UPDATED_AT.
+     *
+     * @param id ID da tarefa
+     * @return Optional contendo a versão se a tarefa existir
+     * @throws SQLException se houver erro na operação
+     */
+    public Optional<ResourceVersion> findVersion(Long id) throws SQLException {
+        Optional<Task> cached = taskCache.peekTask(id);
+        if (cached.isPresent()) {
+            return cached.map(ResourceVersion::of);
+        }
+        return taskDAO.findVersion(id);
+    }
+
+    /**
+     * Versão atual da lista de tarefas de um usuário (a mesma de {@link #findByUserId(Long)}).
+     *
+     * @param userId ID do usuário
+     * @return versão da lista
+     * @throws SQLException se houver erro na operação
+     */
+    public ResourceVersion findVersionByUserId(Long userId) throws SQLException {
+        Optional<List<Task>> cached = taskCache.peekUserTasks(userId);
+        if (cached.isPresent()) {
+            return ResourceVersion.ofTasks(cached.get());
+        }
+        return taskDAO.findVersionByUserId(userId);
+    }
+
+    /**
+     * Contagens de tarefas de um usuário por status, categoria e prioridade. Só o primeiro acesso
+     * consulta o banco; depois os contadores são mantidos pelas operações de escrita.
+     *
+     * @param userId ID do usuário
+     * @return estatísticas do usuário
+     * @throws SQLException se houver erro na operação
+     */
+    public TaskStats getStats(Long userId) throws SQLException {
+        return taskStatsCache.get(userId, () -> taskDAO.findStatsByUserId(userId));
+    }
+
+    /**
+     * Busca textual nas tarefas de um usuário (título e descrição), pelo índice em memória.
+     *
+     * @param userId ID do usuário
+     * @param query texto da busca
+     * @param limit quantidade máxima de resultados (null para o padrão)
+     * @return resultados ordenados por relevância
+     * @throws IllegalArgumentException se a busca estiver vazia ou longa demais, ou o limite for inválido
+     */
+    public List<TaskSearchResult> search(Long userId, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Parâmetro q é obrigatório");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Busca deve ter no máximo " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit deve ser maior que zero");
+        }
+
+        int maxResults = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        return searchIndex.search(userId, query, maxResults);
+    }
+
+    /**
+     * Sugestões de título para o formulário de criação: títulos já usados pelo usuário que começam
+     * com o prefixo, dos mais recentes para os mais antigos. Não consulta o banco.
+     *
+     * @param userId ID do usuário
+     * @param prefix início do título digitado
+     * @param limit quantidade máxima de sugestões (null para o padrão)
+     * @return títulos distintos
+     * @throws IllegalArgumentException se o prefixo estiver vazio ou longo demais, ou o limite for inválido
+     */
+    public List<String> suggestTitles(Long userId, String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Parâmetro prefix é obrigatório");
+        }
+        if (prefix.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Prefixo deve ter no máximo " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit deve ser maior que zero");
+        }
+
+        int maxSuggestions = limit == null ? DEFAULT_SUGGEST_LIMIT : Math.min(limit, MAX_SUGGEST_LIMIT);
+        return searchIndex.suggest(userId, prefix.stripLeading(), maxSuggestions);
     }
 
     /**
-     * Lista tarefas de um usuário filtradas por status.
+     * Tarefas em aberto do usuário com o prazo vencido, mantidas em memória pelo acompanhamento de
+     * prazos (sem consultar o banco).
+     *
+     * @param userId ID do usuário
+     * @return tarefas atrasadas, da mais antiga para a mais recente pelo prazo, ou Optional vazio
+     *         se o acompanhamento de prazos estiver desativado
+     */
+    public Optional<List<Task>> findOverdue(Long userId) {
+        return dueDates.overdue(userId);
+    }
+
+    /**
+     * Lista tarefas de um usuário filtradas por status, com a prévia no lugar da descrição.
      *
      * @param userId ID do usuário
      * @param status status da tarefa (EM_ANDAMENTO ou CONCLUIDO)
@@ -102,12 +395,26 @@ public class TaskBO {
      * @throws SQLException se houver erro na operação
      */
     public List<Task> findByUserIdAndStatus(Long userId, String status) throws SQLException {
+        return findByUserIdAndStatus(userId, status, TaskProjection.SUMMARY);
+    }
+
+    /**
+     * Lista tarefas de um usuário filtradas por status, lendo apenas os campos da projeção.
+     *
+     * @param userId ID do usuário
+     * @param status status da tarefa (EM_ANDAMENTO ou CONCLUIDO)
+     * @param projection campos pedidos
+     * @return lista de tarefas
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findByUserIdAndStatus(Long userId, String status, TaskProjection projection)
+            throws SQLException {
         validateStatus(status);
-        return taskDAO.findByUserIdAndStatus(userId, status);
+        return taskDAO.findByUserIdAndStatus(userId, status, projection);
     }
 
     /**
-     * Lista todas as tarefas.
+     * Lista todas as tarefas, com a prévia no lugar da descrição.
      *
      * @return lista de tarefas
      * @throws SQLException se houver erro na operação
@@ -117,73 +424,183 @@ public class TaskBO {
     }
 
     /**
-     * Atualiza uma tarefa existente e registra no histórico.
+     * Lista todas as tarefas, lendo apenas os campos da projeção.
      *
-     * @param id ID da tarefa
-     * @param updatedTask dados atualizados
-     * @return tarefa atualizada
+     * @param projection campos pedidos
+     * @return lista de tarefas
      * @throws SQLException se houver erro na operação
-     * @throws IllegalArgumentException se tarefa não for encontrada
      */
-    public Task update(Long id, @Valid Task updatedTask) throws SQLException {
-        System.out.println("TaskBO.update() - Iniciando atualização para ID: " + id);
-        System.out.println("TaskBO.update() - Dados recebidos: " + updatedTask);
+    public List<Task> findAll(TaskProjection projection) throws SQLException {
+        return taskDAO.findAll(projection);
+    }
 
-        Optional<Task> existingTask = taskDAO.findById(id);
-        if (existingTask.isEmpty()) {
-            System.err.println("TaskBO.update() - Tarefa não encontrada: " + id);
-            throw new IllegalArgumentException("Tarefa não encontrada");
+    /**
+     * Escreve a descrição completa de uma tarefa. Usa a tarefa em cache, se houver; senão lê o
+     * CLOB em streaming.
+     *
+     * @param id ID da tarefa
+     * @param out destino da descrição
+     * @return false se a tarefa não existir
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se houver erro ao escrever no destino
+     */
+    public boolean writeDescription(Long id, Writer out) throws SQLException, IOException {
+        Optional<Task> cached = taskCache.peekTask(id);
+        if (cached.isPresent()) {
+            String description = cached.get().getDescription();
+            if (description != null) {
+                out.write(description);
+            }
+            return true;
         }
+        return taskDAO.copyDescription(id, out);
+    }
 
-        Task task = existingTask.get();
-        String oldStatus = task.getStatus();
-        System.out.println("TaskBO.update() - Status anterior: " + oldStatus);
-
-        // Validar categoria
-        validateCategory(updatedTask.getCategory());
+    /**
+     * Percorre todas as tarefas em streaming, sem carregar a lista em memória.
+     *
+     * @param handler callback chamado para cada tarefa
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se o handler falhar ao escrever a tarefa
+     */
+    public void streamAll(RowHandler<Task> handler) throws SQLException, IOException {
+        taskDAO.streamAll(handler);
+    }
 
-        // Validar prioridade
-        validatePriority(updatedTask.getPriority());
+    /**
+     * Lista uma página de tarefas (paginação por cursor).
+     *
+     * @param after token do cursor retornado na página anterior (null para a primeira página)
+     * @param limit tamanho da página (null para o padrão)
+     * @param projection campos pedidos
+     * @return página de tarefas com o cursor da próxima página
+     * @throws SQLException se houver erro na operação
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos
+     */
+    public PageResponse<Task> findAllPage(String after, Integer limit, TaskProjection projection)
+            throws SQLException {
+        int pageSize = resolvePageSize(limit);
+        return toPage(taskDAO.findAllPage(parseCursor(after), pageSize, projection), pageSize);
+    }
 
-        // Validar status
-        validateStatus(updatedTask.getStatus());
-
-        // Atualizar campos
-        task.setTitle(updatedTask.getTitle());
-        task.setDescription(updatedTask.getDescription());
-        task.setCategory(updatedTask.getCategory());
-        task.setPriority(updatedTask.getPriority());
-        task.setStatus(updatedTask.getStatus());
-        task.setDueDate(updatedTask.getDueDate());
-
-        // Se status mudou para CONCLUIDO, registrar data de conclusão
-        if ("CONCLUIDO".equals(updatedTask.getStatus()) && !"CONCLUIDO".equals(oldStatus)) {
-            task.setCompletedAt(LocalDateTime.now());
-        } else if (!"CONCLUIDO".equals(updatedTask.getStatus())) {
-            task.setCompletedAt(null); // Limpar completedAt se não estiver concluído
-        }
+    /**
+     * Lista uma página de tarefas de um usuário (paginação por cursor).
+     *
+     * @param userId ID do usuário
+     * @param after token do cursor retornado na página anterior (null para a primeira página)
+     * @param limit tamanho da página (null para o padrão)
+     * @param projection campos pedidos
+     * @return página de tarefas com o cursor da próxima página
+     * @throws SQLException se houver erro na operação
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos
+     */
+    public PageResponse<Task> findByUserIdPage(Long userId, String after, Integer limit, TaskProjection projection)
+            throws SQLException {
+        int pageSize = resolvePageSize(limit);
+        return toPage(taskDAO.findByUserIdPage(userId, parseCursor(after), pageSize, projection), pageSize);
+    }
 
-        // Atualizar tarefa
-        Task updated = taskDAO.update(task);
-        System.out.println("TaskBO.update() - Tarefa atualizada com sucesso: " + updated.getId());
+    /**
+     * Lista uma página de tarefas de um usuário filtradas por status (paginação por cursor).
+     *
+     * @param userId ID do usuário
+     * @param status status da tarefa (EM_ANDAMENTO ou CONCLUIDO)
+     * @param after token do cursor retornado na página anterior (null para a primeira página)
+     * @param limit tamanho da página (null para o padrão)
+     * @param projection campos pedidos
+     * @return página de tarefas com o cursor da próxima página
+     * @throws SQLException se houver erro na operação
+     * @throws IllegalArgumentException se status, cursor ou limite forem inválidos
+     */
+    public PageResponse<Task> findByUserIdAndStatusPage(Long userId, String status, String after, Integer limit,
+                                                        TaskProjection projection) throws SQLException {
+        validateStatus(status);
+        int pageSize = resolvePageSize(limit);
+        return toPage(taskDAO.findByUserIdAndStatusPage(userId, status, parseCursor(after), pageSize, projection),
+                pageSize);
+    }
 
-        // Registrar no histórico
-        try {
+    /**
+     * Atualiza uma tarefa existente e registra no histórico.
+     *
+     * @param id ID da tarefa
+     * @param updatedTask dados atualizados
+     * @return tarefa atualizada
+     * @throws SQLException se houver erro na operação
+     * @throws IllegalArgumentException se tarefa não for encontrada
+     */
+    public Task update(Long id, @Valid Task updatedTask) throws SQLException {
+        // Task.toString() trunca a descrição; só é chamado com DEBUG ativo
+        LOG.debugf("Iniciando atualização da tarefa %d: %s", id, updatedTask);
+
+        return unitOfWork.execute(() -> {
+            // A linha fica bloqueada até o commit: leitura e escrita são atômicas
+            Optional<Task> existingTask = taskDAO.findByIdForUpdate(id);
+            if (existingTask.isEmpty()) {
+                LOG.debugf("Tarefa não encontrada para atualização: %d", id);
+                throw new IllegalArgumentException("Tarefa não encontrada");
+            }
+
+            Task task = existingTask.get();
+            String oldStatus = task.getStatus();
+            String oldCategory = task.getCategory();
+            String oldPriority = task.getPriority();
+
+            // Validar categoria
+            validateCategory(updatedTask.getCategory());
+
+            // Validar prioridade
+            validatePriority(updatedTask.getPriority());
+
+            // Validar status
+            validateStatus(updatedTask.getStatus());
+
+            // Atualizar campos
+            task.setTitle(updatedTask.getTitle());
+            task.setDescription(updatedTask.getDescription());
+            task.setCategory(updatedTask.getCategory());
+            task.setPriority(updatedTask.getPriority());
+            task.setStatus(updatedTask.getStatus());
+            task.setDueDate(updatedTask.getDueDate());
+
+            // Se status mudou para CONCLUIDO, registrar data de conclusão
+            if ("CONCLUIDO".equals(updatedTask.getStatus()) && !"CONCLUIDO".equals(oldStatus)) {
+                task.setCompletedAt(LocalDateTime.now());
+            } else if (!"CONCLUIDO".equals(updatedTask.getStatus())) {
+                task.setCompletedAt(null); // Limpar completedAt se não estiver concluído
+            }
+
+            // Atualizar tarefa
+            Task updated = taskDAO.update(task);
+            LOG.infof("Tarefa %d atualizada (status %s -> %s)", updated.getId(), oldStatus, updated.getStatus());
+
+            TaskStatsCache.Delta statsDelta =
+                    TaskStatsCache.Delta.changed(oldStatus, oldCategory, oldPriority, updated);
+            long version = taskVersions.next();
+
+            // Registrar no histórico
             String action = oldStatus.equals(updatedTask.getStatus()) ? "EDITADA" : "STATUS_ALTERADO";
-            TaskHistory history = new TaskHistory(
-                    updated.getId(),
-                    action,
-                    oldStatus,
-                    updatedTask.getStatus(),
-                    "Tarefa atualizada: " + updated.getTitle()
-            );
-            taskHistoryDAO.create(history);
-            System.out.println("TaskBO.update() - Histórico registrado com sucesso");
-        } catch (SQLException e) {
-            System.err.println("Erro ao registrar histórico de atualização da tarefa " + updated.getId() + ": " + e.getMessage());
-        }
-
-        return updated;
+            String changeType = "CONCLUIDO".equals(updated.getStatus()) && !"CONCLUIDO".equals(oldStatus)
+                    ? TaskChangeEvent.COMPLETED
+                    : TaskChangeEvent.UPDATED;
+            unitOfWork.afterCommit(() -> {
+                taskCache.invalidate(updated.getId(), updated.getUserId());
+                taskStatsCache.apply(statsDelta);
+                searchIndex.index(updated, version);
+                dueDates.track(updated, version);
+                changeFeed.publish(changeType, updated, version);
+                historyRecorder.record(new TaskHistory(
+                        updated.getId(),
+                        action,
+                        oldStatus,
+                        updatedTask.getStatus(),
+                        "Tarefa atualizada: " + updated.getTitle()
+                ));
+                LOG.debugf("Histórico da tarefa %d enfileirado", updated.getId());
+            });
+
+            return updated;
+        });
     }
 
     /**
@@ -195,34 +612,41 @@ public class TaskBO {
      * @throws IllegalArgumentException se tarefa não for encontrada
      */
     public Task markAsCompleted(Long id) throws SQLException {
-        Optional<Task> existingTask = taskDAO.findById(id);
-        if (existingTask.isEmpty()) {
-            throw new IllegalArgumentException("Tarefa não encontrada");
-        }
+        return unitOfWork.execute(() -> {
+            Optional<Task> existingTask = taskDAO.findByIdForUpdate(id);
+            if (existingTask.isEmpty()) {
+                throw new IllegalArgumentException("Tarefa não encontrada");
+            }
 
-        Task task = existingTask.get();
-        String oldStatus = task.getStatus();
-
-        task.setStatus("CONCLUIDO");
-        task.setCompletedAt(LocalDateTime.now());
-
-        Task updated = taskDAO.update(task);
-
-        // Registrar no histórico
-        try {
-            TaskHistory history = new TaskHistory(
-                    updated.getId(),
-                    "CONCLUIDA",
-                    oldStatus,
-                    "CONCLUIDO",
-                    "Tarefa marcada como concluída: " + updated.getTitle()
-            );
-            taskHistoryDAO.create(history);
-        } catch (SQLException e) {
-            System.err.println("Erro ao registrar histórico de conclusão da tarefa " + updated.getId() + ": " + e.getMessage());
-        }
+            Task task = existingTask.get();
+            String oldStatus = task.getStatus();
+
+            task.setStatus("CONCLUIDO");
+            task.setCompletedAt(LocalDateTime.now());
 
-        return updated;
+            Task updated = taskDAO.update(task);
+            TaskStatsCache.Delta statsDelta = TaskStatsCache.Delta.changed(
+                    oldStatus, updated.getCategory(), updated.getPriority(), updated);
+            long version = taskVersions.next();
+
+            // Registrar no histórico
+            unitOfWork.afterCommit(() -> {
+                taskCache.invalidate(updated.getId(), updated.getUserId());
+                taskStatsCache.apply(statsDelta);
+                searchIndex.index(updated, version);
+                dueDates.track(updated, version);
+                changeFeed.publish(TaskChangeEvent.COMPLETED, updated, version);
+                historyRecorder.record(new TaskHistory(
+                        updated.getId(),
+                        "CONCLUIDA",
+                        oldStatus,
+                        "CONCLUIDO",
+                        "Tarefa marcada como concluída: " + updated.getTitle()
+                ));
+            });
+
+            return updated;
+        });
     }
 
     /**
@@ -234,26 +658,34 @@ public class TaskBO {
      * @throws IllegalArgumentException se tarefa não for encontrada
      */
     public boolean delete(Long id) throws SQLException {
-        Optional<Task> task = taskDAO.findById(id);
-        if (task.isEmpty()) {
-            throw new IllegalArgumentException("Tarefa não encontrada");
-        }
-
-        // Registrar no histórico antes de deletar
-        try {
-            TaskHistory history = new TaskHistory(
-                    task.get().getId(),
-                    "DELETADA",
-                    task.get().getStatus(),
-                    null,
-                    "Tarefa deletada: " + task.get().getTitle()
-            );
-            taskHistoryDAO.create(history);
-        } catch (SQLException e) {
-            System.err.println("Erro ao registrar histórico de exclusão da tarefa " + task.get().getId() + ": " + e.getMessage());
-        }
-
-        return taskDAO.delete(id);
+        return unitOfWork.execute(() -> {
+            Optional<Task> task = taskDAO.findByIdForUpdate(id);
+            if (task.isEmpty()) {
+                throw new IllegalArgumentException("Tarefa não encontrada");
+            }
+
+            boolean deleted = taskDAO.delete(id);
+            TaskStatsCache.Delta statsDelta = TaskStatsCache.Delta.deleted(task.get());
+            long version = taskVersions.next();
+
+            // Registrar no histórico somente se a exclusão for confirmada
+            unitOfWork.afterCommit(() -> {
+                taskCache.invalidate(id, task.get().getUserId());
+                taskStatsCache.apply(statsDelta);
+                searchIndex.remove(task.get(), version);
+                dueDates.remove(task.get(), version);
+                changeFeed.publish(TaskChangeEvent.DELETED, task.get(), version);
+                historyRecorder.record(new TaskHistory(
+                        task.get().getId(),
+                        "DELETADA",
+                        task.get().getStatus(),
+                        null,
+                        "Tarefa deletada: " + task.get().getTitle()
+                ));
+            });
+
+            return deleted;
+        });
     }
 
     /**
@@ -267,6 +699,103 @@ public class TaskBO {
         return taskHistoryDAO.findByTaskId(taskId);
     }
 
+    /**
+     * Percorre todo o histórico de tarefas em streaming, sem carregar a lista em memória.
+     *
+     * @param handler callback chamado para cada registro de histórico
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se o handler falhar ao escrever o registro
+     */
+    public void streamHistory(RowHandler<TaskHistory> handler) throws SQLException, IOException {
+        taskHistoryDAO.streamAll(handler);
+    }
+
+    /**
+     * Aplica o status padrão e valida categoria, prioridade e status de uma nova tarefa.
+     *
+     * @param task tarefa a ser criada
+     * @throws IllegalArgumentException se algum valor for inválido
+     */
+    void validateNewTask(Task task) {
+        // Validar status inicial
+        if (task.getStatus() == null || task.getStatus().isEmpty()) {
+            task.setStatus("EM_ANDAMENTO");
+        }
+
+        // Validar categoria
+        validateCategory(task.getCategory());
+
+        // Validar prioridade
+        validatePriority(task.getPriority());
+
+        // Validar status
+        validateStatus(task.getStatus());
+    }
+
+    /**
+     * Aplica as anotações de Bean Validation da entidade (usado nos lotes, onde a validação
+     * é feita item a item em vez de rejeitar a requisição inteira).
+     *
+     * @param task tarefa a ser validada
+     * @throws IllegalArgumentException com as mensagens das violações encontradas
+     */
+    private void validateBean(Task task) {
+        Set<ConstraintViolation<Task>> violations = validator.validate(task);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * Resolve o tamanho de página solicitado, limitando-o a {@link TaskDAO#MAX_PAGE_SIZE}.
+     *
+     * @param limit tamanho solicitado (null para o padrão)
+     * @return tamanho de página efetivo
+     * @throws IllegalArgumentException se o limite for menor que 1
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return TaskDAO.DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit deve ser maior que zero");
+        }
+        return Math.min(limit, TaskDAO.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Interpreta o token de cursor recebido do cliente.
+     *
+     * @param after token do cursor (pode ser null ou vazio)
+     * @return cursor, ou null para a primeira página
+     */
+    private TaskCursor parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        return TaskCursor.decode(after);
+    }
+
+    /**
+     * Monta a página a partir das linhas lidas (que podem conter um item extra).
+     *
+     * @param rows linhas retornadas pelo DAO, com até {@code pageSize + 1} itens
+     * @param pageSize tamanho da página
+     * @return página com o cursor da próxima página, se houver
+     */
+    private PageResponse<Task> toPage(List<Task> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new PageResponse<>(rows, null, pageSize);
+        }
+
+        List<Task> items = rows.subList(0, pageSize);
+        Task last = items.get(items.size() - 1);
+        String nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        return new PageResponse<>(items, nextCursor, pageSize);
+    }
+
     /**
      * Valida a categoria da tarefa.
      *
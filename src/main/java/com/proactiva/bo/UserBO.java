@@ -1,15 +1,18 @@
 package com.proactiva.bo;
 
+import com.proactiva.cache.UserCache;
+import com.proactiva.dao.UnitOfWork;
 import com.proactiva.dao.UserDAO;
+import com.proactiva.dto.ResourceVersion;
 import com.proactiva.model.User;
+import com.proactiva.service.AuthExecutor;
+import com.proactiva.service.PasswordHasher;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import org.jboss.logging.Logger;
 import java.sql.SQLException;
-import java.util.Base64;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +23,28 @@ import java.util.Optional;
 @ApplicationScoped
 public class UserBO {
 
+    private static final Logger LOG = Logger.getLogger(UserBO.class);
+
+    /**
+     * Código de erro do Oracle para violação de constraint UNIQUE (ORA-00001).
+     */
+    private static final int ORA_UNIQUE_CONSTRAINT = 1;
+
     @Inject
     UserDAO userDAO;
 
+    @Inject
+    UserCache userCache;
+
+    @Inject
+    UnitOfWork unitOfWork;
+
+    @Inject
+    PasswordHasher passwordHasher;
+
+    @Inject
+    AuthExecutor authExecutor;
+
     /**
      * Cria um novo usuário com senha criptografada.
      *
@@ -30,17 +52,19 @@ public class UserBO {
      * @return usuário criado
      * @throws SQLException se houver erro na operação
      * @throws IllegalArgumentException se dados forem inválidos
+     * @throws com.proactiva.exception.ServiceBusyException se o pool de autenticação estiver saturado
      */
     public User create(@Valid User user) throws SQLException {
-        // Validar se username já existe
-        Optional<User> existingUser = userDAO.findByUsername(user.getUsername());
-        if (existingUser.isPresent()) {
+        // Validar se username já existe (o cache negativo dispensa a consulta
+        // quando o username certamente está livre)
+        if (!userCache.isUsernameCertainlyFree(user.getUsername())
+                && findByUsername(user.getUsername()).isPresent()) {
             throw new IllegalArgumentException("Username já está em uso");
         }
 
         // Validar se email já existe
-        Optional<User> existingEmail = userDAO.findByEmail(user.getEmail());
-        if (existingEmail.isPresent()) {
+        if (!userCache.isEmailCertainlyFree(user.getEmail())
+                && userCache.getByEmail(user.getEmail(), () -> userDAO.findByEmail(user.getEmail())).isPresent()) {
             throw new IllegalArgumentException("Email já está em uso");
         }
 
@@ -48,7 +72,21 @@ public class UserBO {
         String hashedPassword = hashPassword(user.getPassword());
         user.setPassword(hashedPassword);
 
-        return userDAO.create(user);
+        try {
+            // Inserção e leitura do ID gerado na mesma conexão e transação
+            return unitOfWork.execute(() -> {
+                User createdUser = userDAO.create(user);
+                unitOfWork.afterCommit(() ->
+                        userCache.registerIdentity(createdUser.getUsername(), createdUser.getEmail()));
+                return createdUser;
+            });
+        } catch (SQLException e) {
+            // Cadastro concorrente (possivelmente em outro nó) com o mesmo username ou email
+            if (isUniqueViolation(e)) {
+                throw new IllegalArgumentException("Username ou email já está em uso");
+            }
+            throw e;
+        }
     }
 
     /**
@@ -59,7 +97,22 @@ public class UserBO {
      * @throws SQLException se houver erro na operação
      */
     public Optional<User> findById(Long id) throws SQLException {
-        return userDAO.findById(id);
+        return userCache.getById(id, () -> userDAO.findById(id));
+    }
+
+    /**
+     * Versão atual de um usuário, para requisições condicionais.
+     *
+     * @param id ID do usuário
+     * @return Optional contendo a versão se o usuário existir
+     * @throws SQLException se houver erro na operação
+     */
+    public Optional<ResourceVersion> findVersion(Long id) throws SQLException {
+        Optional<User> cached = userCache.peekById(id);
+        if (cached.isPresent()) {
+            return cached.map(ResourceVersion::of);
+        }
+        return userDAO.findVersion(id);
     }
 
     /**
@@ -70,7 +123,7 @@ public class UserBO {
      * @throws SQLException se houver erro na operação
      */
     public Optional<User> findByUsername(String username) throws SQLException {
-        return userDAO.findByUsername(username);
+        return userCache.getByUsername(username, () -> userDAO.findByUsername(username));
     }
 
     /**
@@ -91,41 +144,59 @@ public class UserBO {
      * @return usuário atualizado
      * @throws SQLException se houver erro na operação
      * @throws IllegalArgumentException se usuário não for encontrado
+     * @throws com.proactiva.exception.ServiceBusyException se o pool de autenticação estiver saturado
      */
     public User update(Long id, @Valid User updatedUser) throws SQLException {
-        Optional<User> existingUser = userDAO.findById(id);
-        if (existingUser.isEmpty()) {
-            throw new IllegalArgumentException("Usuário não encontrado");
+        // O hash é calculado antes da transação, para não segurar a conexão durante o trabalho de CPU
+        String newPasswordHash = null;
+        if (updatedUser.getPassword() != null && !updatedUser.getPassword().isEmpty()) {
+            newPasswordHash = hashPassword(updatedUser.getPassword());
         }
+        String hashedPassword = newPasswordHash;
+
+        return unitOfWork.execute(() -> {
+            // A linha fica bloqueada até o commit: verificações e escrita são atômicas
+            Optional<User> existingUser = userDAO.findByIdForUpdate(id);
+            if (existingUser.isEmpty()) {
+                throw new IllegalArgumentException("Usuário não encontrado");
+            }
 
-        User user = existingUser.get();
+            User user = existingUser.get();
+            User previous = new User(user.getUsername(), user.getEmail(), null);
+            previous.setId(user.getId());
 
-        // Validar se novo username já está em uso por outro usuário
-        if (!user.getUsername().equals(updatedUser.getUsername())) {
-            Optional<User> userWithSameUsername = userDAO.findByUsername(updatedUser.getUsername());
-            if (userWithSameUsername.isPresent() && !userWithSameUsername.get().getId().equals(id)) {
-                throw new IllegalArgumentException("Username já está em uso");
+            // Validar se novo username já está em uso por outro usuário
+            if (!user.getUsername().equals(updatedUser.getUsername())) {
+                Optional<User> userWithSameUsername = userDAO.findByUsername(updatedUser.getUsername());
+                if (userWithSameUsername.isPresent() && !userWithSameUsername.get().getId().equals(id)) {
+                    throw new IllegalArgumentException("Username já está em uso");
+                }
             }
-        }
 
-        // Validar se novo email já está em uso por outro usuário
-        if (!user.getEmail().equals(updatedUser.getEmail())) {
-            Optional<User> userWithSameEmail = userDAO.findByEmail(updatedUser.getEmail());
-            if (userWithSameEmail.isPresent() && !userWithSameEmail.get().getId().equals(id)) {
-                throw new IllegalArgumentException("Email já está em uso");
+            // Validar se novo email já está em uso por outro usuário
+            if (!user.getEmail().equals(updatedUser.getEmail())) {
+                Optional<User> userWithSameEmail = userDAO.findByEmail(updatedUser.getEmail());
+                if (userWithSameEmail.isPresent() && !userWithSameEmail.get().getId().equals(id)) {
+                    throw new IllegalArgumentException("Email já está em uso");
+                }
             }
-        }
 
-        user.setUsername(updatedUser.getUsername());
-        user.setEmail(updatedUser.getEmail());
+            user.setUsername(updatedUser.getUsername());
+            user.setEmail(updatedUser.getEmail());
 
-        // Se a senha foi alterada, criptografar
-        if (updatedUser.getPassword() != null && !updatedUser.getPassword().isEmpty()) {
-            String hashedPassword = hashPassword(updatedUser.getPassword());
-            user.setPassword(hashedPassword);
-        }
+            // Se a senha foi alterada, gravar o novo hash
+            if (hashedPassword != null) {
+                user.setPassword(hashedPassword);
+            }
 
-        return userDAO.update(user);
+            User updated = userDAO.update(user);
+            unitOfWork.afterCommit(() -> {
+                userCache.invalidate(previous);
+                userCache.invalidate(updated);
+                userCache.registerIdentity(updated.getUsername(), updated.getEmail());
+            });
+            return updated;
+        });
     }
 
     /**
@@ -137,12 +208,16 @@ public class UserBO {
      * @throws IllegalArgumentException se usuário não for encontrado
      */
     public boolean delete(Long id) throws SQLException {
-        Optional<User> user = userDAO.findById(id);
-        if (user.isEmpty()) {
-            throw new IllegalArgumentException("Usuário não encontrado");
-        }
+        return unitOfWork.execute(() -> {
+            Optional<User> user = userDAO.findByIdForUpdate(id);
+            if (user.isEmpty()) {
+                throw new IllegalArgumentException("Usuário não encontrado");
+            }
 
-        return userDAO.delete(id);
+            boolean deleted = userDAO.delete(id);
+            unitOfWork.afterCommit(() -> userCache.invalidate(user.get()));
+            return deleted;
+        });
     }
 
     /**
@@ -152,13 +227,19 @@ public class UserBO {
      * @param password senha
      * @return Optional contendo o usuário se autenticado
      * @throws SQLException se houver erro na operação
+     * @throws com.proactiva.exception.ServiceBusyException se o pool de autenticação estiver saturado
      */
     public Optional<User> authenticate(String username, String password) throws SQLException {
+        // O hash vem sempre do banco: uma troca de senha ou exclusão feita em outro nó
+        // não pode continuar aceitando a senha antiga até a entrada do cache expirar
         Optional<User> user = userDAO.findByUsername(username);
         
         if (user.isPresent()) {
-            String hashedPassword = hashPassword(password);
-            if (user.get().getPassword().equals(hashedPassword)) {
+            String storedHash = user.get().getPassword();
+            if (authExecutor.call(() -> passwordHasher.verify(password, storedHash))) {
+                if (passwordHasher.needsRehash(storedHash)) {
+                    upgradePasswordHash(user.get(), password);
+                }
                 return user;
             }
         }
@@ -167,18 +248,40 @@ public class UserBO {
     }
 
     /**
-     * Criptografa uma senha usando SHA-256.
+     * Regrava o hash da senha no formato e fator de trabalho atuais (após um login válido).
+     * Falhas não impedem o login: o hash antigo continua válido e será atualizado depois.
      *
-     * @param password senha em texto plano
-     * @return senha criptografada em Base64
+     * @param user usuário autenticado
+     * @param password senha em texto plano, já verificada
      */
-    private String hashPassword(String password) {
+    private void upgradePasswordHash(User user, String password) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(password.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Erro ao criptografar senha", e);
+            String newHash = hashPassword(password);
+            userDAO.updatePassword(user.getId(), newHash);
+            userCache.invalidate(user);
+        } catch (SQLException | RuntimeException e) {
+            LOG.warnf(e, "Erro ao atualizar hash de senha do usuário %d", user.getId());
         }
     }
+
+    /**
+     * Verifica se o erro é uma violação de constraint UNIQUE.
+     *
+     * @param e exceção lançada pelo driver
+     * @return true se for violação de unicidade
+     */
+    private boolean isUniqueViolation(SQLException e) {
+        return e instanceof SQLIntegrityConstraintViolationException || e.getErrorCode() == ORA_UNIQUE_CONSTRAINT;
+    }
+
+    /**
+     * Criptografa uma senha (PBKDF2) no pool de autenticação.
+     *
+     * @param password senha em texto plano
+     * @return hash no formato do {@link PasswordHasher}
+     * @throws com.proactiva.exception.ServiceBusyException se o pool de autenticação estiver saturado
+     */
+    String hashPassword(String password) {
+        return authExecutor.call(() -> passwordHasher.hash(password));
+    }
 }
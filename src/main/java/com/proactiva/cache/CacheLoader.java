@@ -0,0 +1,20 @@
+package com.proactiva.cache;
+
+import java.sql.SQLException;
+
+/**
+ * Carregamento a partir do banco em caso de cache miss.
+ *
+ * @param <V> tipo do valor carregado
+ */
+@FunctionalInterface
+public interface CacheLoader<V> {
+
+    /**
+     * Consulta o valor no banco de dados.
+     *
+     * @return valor carregado
+     * @throws SQLException se houver erro na operação
+     */
+    V load() throws SQLException;
+}
@@ -0,0 +1,47 @@
+package com.proactiva.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.sql.SQLException;
+
+/**
+ * Utilitários compartilhados pelos caches da aplicação.
+ */
+final class Caches {
+
+    private Caches() {
+    }
+
+    /**
+     * Carrega o valor de forma atômica por chave: uma invalidação concorrente aguarda o fim
+     * do carregamento e remove o valor carregado, evitando que um dado antigo fique em cache.
+     * Valores nulos não são armazenados.
+     */
+    static <K, V> V get(Cache<K, V> cache, K key, CacheLoader<V> loader) throws SQLException {
+        try {
+            return cache.get(key, k -> {
+                try {
+                    return loader.load();
+                } catch (SQLException e) {
+                    throw new LoadException(e);
+                }
+            });
+        } catch (LoadException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Transporta a SQLException do carregamento através da API do Caffeine.
+     */
+    private static final class LoadException extends RuntimeException {
+
+        LoadException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+}
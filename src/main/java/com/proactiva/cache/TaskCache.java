@@ -0,0 +1,129 @@
+package com.proactiva.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache em memória (read-through) das tarefas individuais e das listas de tarefas por usuário.
+ *
+ * Usa Caffeine (eviction W-TinyLFU, por frequência) com tamanho máximo e TTL. As entradas são
+ * invalidadas pelo TaskBO a cada criação, atualização, conclusão ou exclusão; o TTL limita
+ * o tempo em que alterações feitas por outros nós da API podem ficar invisíveis.
+ *
+ * Os objetos em cache são compartilhados entre requisições e devem ser tratados como somente leitura.
+ */
+@ApplicationScoped
+public class TaskCache {
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.cache.tasks.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proactiva.cache.tasks.maximum-size", defaultValue = "10000")
+    long maximumSize;
+
+    @ConfigProperty(name = "proactiva.cache.tasks.user-lists.maximum-size", defaultValue = "1000")
+    long userListsMaximumSize;
+
+    @ConfigProperty(name = "proactiva.cache.tasks.expire-after-write", defaultValue = "30s")
+    Duration expireAfterWrite;
+
+    private Cache<Long, Task> tasks;
+    private Cache<Long, List<Task>> userTasks;
+
+    @PostConstruct
+    void init() {
+        tasks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        userTasks = Caffeine.newBuilder()
+                .maximumSize(userListsMaximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, tasks, "tasks");
+        CaffeineCacheMetrics.monitor(registry, userTasks, "tasks-by-user");
+    }
+
+    /**
+     * Busca uma tarefa no cache ou, em caso de miss, no banco.
+     * Tarefas inexistentes não são armazenadas.
+     *
+     * @param id ID da tarefa
+     * @param loader consulta ao banco
+     * @return Optional contendo a tarefa se encontrada
+     * @throws SQLException se houver erro na consulta ao banco
+     */
+    public Optional<Task> getTask(Long id, CacheLoader<Optional<Task>> loader) throws SQLException {
+        if (!enabled) {
+            return loader.load();
+        }
+        return Optional.ofNullable(Caches.get(tasks, id, () -> loader.load().orElse(null)));
+    }
+
+    /**
+     * Busca a lista de tarefas de um usuário no cache ou, em caso de miss, no banco.
+     *
+     * @param userId ID do usuário
+     * @param loader consulta ao banco
+     * @return lista (imutável) de tarefas
+     * @throws SQLException se houver erro na consulta ao banco
+     */
+    public List<Task> getUserTasks(Long userId, CacheLoader<List<Task>> loader) throws SQLException {
+        if (!enabled) {
+            return loader.load();
+        }
+        return Caches.get(userTasks, userId, () -> List.copyOf(loader.load()));
+    }
+
+    /**
+     * Tarefa já presente no cache, sem consultar o banco.
+     *
+     * @param id ID da tarefa
+     * @return Optional contendo a tarefa se estiver em cache
+     */
+    public Optional<Task> peekTask(Long id) {
+        return enabled ? Optional.ofNullable(tasks.getIfPresent(id)) : Optional.empty();
+    }
+
+    /**
+     * Lista de tarefas do usuário já presente no cache, sem consultar o banco.
+     *
+     * @param userId ID do usuário
+     * @return Optional contendo a lista (imutável) se estiver em cache
+     */
+    public Optional<List<Task>> peekUserTasks(Long userId) {
+        return enabled ? Optional.ofNullable(userTasks.getIfPresent(userId)) : Optional.empty();
+    }
+
+    /**
+     * Invalida a tarefa e a lista de tarefas do seu usuário.
+     *
+     * @param taskId ID da tarefa (pode ser null)
+     * @param userId ID do usuário dono da tarefa (pode ser null)
+     */
+    public void invalidate(Long taskId, Long userId) {
+        if (taskId != null) {
+            tasks.invalidate(taskId);
+        }
+        if (userId != null) {
+            userTasks.invalidate(userId);
+        }
+    }
+}
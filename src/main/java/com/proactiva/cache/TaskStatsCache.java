@@ -0,0 +1,205 @@
+package com.proactiva.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.proactiva.dto.TaskStats;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contadores de tarefas por usuário (total, status, categoria e prioridade) para o painel.
+ *
+ * Os contadores são carregados uma vez com o GROUP BY do banco e, depois disso, mantidos pelo
+ * TaskBO: cada criação, alteração ou exclusão confirmada aplica um {@link Delta}, sem nova
+ * consulta. A entrada expira um tempo fixo após o carregamento (deltas não renovam o prazo),
+ * o que limita o tempo em que alterações feitas por outros nós da API ficam de fora.
+ */
+@ApplicationScoped
+public class TaskStatsCache {
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.cache.task-stats.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proactiva.cache.task-stats.maximum-size", defaultValue = "10000")
+    long maximumSize;
+
+    @ConfigProperty(name = "proactiva.cache.task-stats.expire-after-load", defaultValue = "10m")
+    Duration expireAfterLoad;
+
+    private Cache<Long, Counters> stats;
+
+    @PostConstruct
+    void init() {
+        stats = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((Long userId, Counters counters) -> expireAfterLoad))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, stats, "task-stats");
+    }
+
+    /**
+     * Estatísticas do usuário a partir dos contadores em memória ou, em caso de miss, do banco.
+     *
+     * @param userId ID do usuário
+     * @param loader consulta de agregação no banco
+     * @return cópia das estatísticas atuais
+     * @throws SQLException se houver erro na consulta ao banco
+     */
+    public TaskStats get(Long userId, CacheLoader<TaskStats> loader) throws SQLException {
+        if (!enabled) {
+            return loader.load();
+        }
+        return Caches.get(stats, userId, () -> {
+            TaskStats loaded = loader.load();
+            return new Counters(loaded, System.nanoTime());
+        }).snapshot();
+    }
+
+    /**
+     * Aplica uma alteração já confirmada aos contadores do usuário, se estiverem carregados.
+     *
+     * O delta só é somado se o carregamento terminou antes de o {@link Delta} ser criado, ou
+     * seja, antes do commit: nesse caso o GROUP BY certamente não viu a alteração. Um
+     * carregamento que terminou depois pode ou não tê-la visto (inclusive se começou antes do
+     * delta e leu depois do commit); a entrada é então descartada e recarregada na próxima
+     * leitura, em vez de arriscar contar a alteração duas vezes.
+     *
+     * @param delta alteração a ser aplicada
+     */
+    public void apply(Delta delta) {
+        if (!enabled) {
+            return;
+        }
+        // Aguarda um carregamento em andamento para a mesma chave
+        stats.asMap().computeIfPresent(delta.userId, (userId, counters) -> {
+            if (counters.loadCompletedAt - delta.startedAt >= 0) {
+                return null;
+            }
+            counters.apply(delta);
+            return counters;
+        });
+    }
+
+    /**
+     * Remove os contadores do usuário.
+     *
+     * @param userId ID do usuário
+     */
+    public void invalidate(Long userId) {
+        stats.invalidate(userId);
+    }
+
+    /**
+     * Efeito de uma operação sobre as contagens de um usuário: a tarefa sai das contagens do
+     * estado anterior e entra nas do novo estado. Deve ser criado dentro da transação, antes
+     * do commit.
+     */
+    public static final class Delta {
+
+        final Long userId;
+        final long startedAt;
+        final String oldStatus;
+        final String oldCategory;
+        final String oldPriority;
+        final String newStatus;
+        final String newCategory;
+        final String newPriority;
+
+        private Delta(Long userId, String oldStatus, String oldCategory, String oldPriority,
+                      String newStatus, String newCategory, String newPriority) {
+            this.userId = userId;
+            this.startedAt = System.nanoTime();
+            this.oldStatus = oldStatus;
+            this.oldCategory = oldCategory;
+            this.oldPriority = oldPriority;
+            this.newStatus = newStatus;
+            this.newCategory = newCategory;
+            this.newPriority = newPriority;
+        }
+
+        public static Delta created(Task task) {
+            return new Delta(task.getUserId(), null, null, null,
+                    task.getStatus(), task.getCategory(), task.getPriority());
+        }
+
+        public static Delta deleted(Task task) {
+            return new Delta(task.getUserId(), task.getStatus(), task.getCategory(), task.getPriority(),
+                    null, null, null);
+        }
+
+        /**
+         * Alteração de uma tarefa existente.
+         *
+         * @param oldStatus status antes da alteração
+         * @param oldCategory categoria antes da alteração
+         * @param oldPriority prioridade antes da alteração
+         * @param updated tarefa já alterada
+         */
+        public static Delta changed(String oldStatus, String oldCategory, String oldPriority, Task updated) {
+            return new Delta(updated.getUserId(), oldStatus, oldCategory, oldPriority,
+                    updated.getStatus(), updated.getCategory(), updated.getPriority());
+        }
+    }
+
+    /**
+     * Contadores de um usuário. Alterados somente dentro do compute do Caffeine; a leitura
+     * é sincronizada para copiar um estado consistente.
+     */
+    private static final class Counters {
+
+        final long loadCompletedAt;
+        private long total;
+        private final Map<String, Long> byStatus;
+        private final Map<String, Long> byCategory;
+        private final Map<String, Long> byPriority;
+
+        Counters(TaskStats loaded, long loadCompletedAt) {
+            this.loadCompletedAt = loadCompletedAt;
+            this.total = loaded.getTotal();
+            this.byStatus = new HashMap<>(loaded.getByStatus());
+            this.byCategory = new HashMap<>(loaded.getByCategory());
+            this.byPriority = new HashMap<>(loaded.getByPriority());
+        }
+
+        synchronized void apply(Delta delta) {
+            if (delta.oldStatus != null) {
+                total--;
+                add(byStatus, delta.oldStatus, -1);
+                add(byCategory, delta.oldCategory, -1);
+                add(byPriority, delta.oldPriority, -1);
+            }
+            if (delta.newStatus != null) {
+                total++;
+                add(byStatus, delta.newStatus, 1);
+                add(byCategory, delta.newCategory, 1);
+                add(byPriority, delta.newPriority, 1);
+            }
+        }
+
+        synchronized TaskStats snapshot() {
+            return new TaskStats(total, new TreeMap<>(byStatus), new TreeMap<>(byCategory),
+                    new TreeMap<>(byPriority));
+        }
+
+        private static void add(Map<String, Long> counts, String key, long amount) {
+            // Contagens que chegam a zero saem do mapa, como no resultado do GROUP BY
+            counts.merge(key, amount, (current, change) -> current + change == 0 ? null : current + change);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.proactiva.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.proactiva.dao.UserDAO;
+import com.proactiva.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache de usuários com índices por ID, username e email, e cache negativo (filtro de Bloom)
+ * para as verificações de disponibilidade de username/email no cadastro.
+ *
+ * O filtro de Bloom é carregado na inicialização com os usernames e emails existentes. Um
+ * "certamente livre" dispensa a consulta ao banco; a constraint UNIQUE do banco continua sendo
+ * a garantia final para cadastros concorrentes feitos em outros nós da API.
+ *
+ * As entradas guardam o hash da senha e são sempre devolvidas como cópias, porque os resources
+ * removem a senha do objeto antes de serializá-lo. O login não usa o cache: o hash pode ter sido
+ * alterado em outro nó da API dentro do prazo de expiração.
+ */
+@ApplicationScoped
+public class UserCache {
+
+    private static final Logger LOG = Logger.getLogger(UserCache.class);
+
+    @Inject
+    UserDAO userDAO;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.cache.users.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proactiva.cache.users.maximum-size", defaultValue = "10000")
+    long maximumSize;
+
+    @ConfigProperty(name = "proactiva.cache.users.expire-after-write", defaultValue = "5m")
+    Duration expireAfterWrite;
+
+    @ConfigProperty(name = "proactiva.cache.users.bloom.expected-insertions", defaultValue = "100000")
+    long expectedInsertions;
+
+    @ConfigProperty(name = "proactiva.cache.users.bloom.false-positive-rate", defaultValue = "0.01")
+    double falsePositiveRate;
+
+    private Cache<Long, User> usersById;
+    private Cache<String, User> usersByUsername;
+    private Cache<String, User> usersByEmail;
+
+    private BloomFilter usernames;
+    private BloomFilter emails;
+    private volatile boolean bloomReady;
+
+    private Counter negativeHits;
+
+    @PostConstruct
+    void init() {
+        usersById = newCache();
+        usersByUsername = newCache();
+        usersByEmail = newCache();
+
+        CaffeineCacheMetrics.monitor(registry, usersById, "users");
+        CaffeineCacheMetrics.monitor(registry, usersByUsername, "users-by-username");
+        CaffeineCacheMetrics.monitor(registry, usersByEmail, "users-by-email");
+
+        usernames = new BloomFilter(expectedInsertions, falsePositiveRate);
+        emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+        negativeHits = registry.counter("proactiva.cache.users.negative.hits");
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            userDAO.streamIdentities(user -> registerIdentity(user.getUsername(), user.getEmail()));
+            bloomReady = true;
+        } catch (SQLException | IOException e) {
+            // Sem o filtro carregado, todas as verificações continuam indo ao banco
+            LOG.warn("Erro ao carregar cache negativo de usuários", e);
+        }
+    }
+
+    /**
+     * Busca um usuário por ID no cache ou, em caso de miss, no banco.
+     *
+     * @param id ID do usuário
+     * @param loader consulta ao banco
+     * @return Optional contendo uma cópia do usuário se encontrado
+     * @throws SQLException se houver erro na consulta ao banco
+     */
+    public Optional<User> getById(Long id, CacheLoader<Optional<User>> loader) throws SQLException {
+        return get(usersById, id, loader);
+    }
+
+    /**
+     * Usuário já presente no cache, sem consultar o banco.
+     *
+     * @param id ID do usuário
+     * @return Optional contendo uma cópia do usuário se estiver em cache
+     */
+    public Optional<User> peekById(Long id) {
+        return enabled ? Optional.ofNullable(usersById.getIfPresent(id)).map(UserCache::copy) : Optional.empty();
+    }
+
+    /**
+     * Busca um usuário por username no cache ou, em caso de miss, no banco.
+     *
+     * @param username username do usuário
+     * @param loader consulta ao banco
+     * @return Optional contendo uma cópia do usuário se encontrado
+     * @throws SQLException se houver erro na consulta ao banco
+     */
+    public Optional<User> getByUsername(String username, CacheLoader<Optional<User>> loader) throws SQLException {
+        return get(usersByUsername, username, loader);
+    }
+
+    /**
+     * Busca um usuário por email no cache ou, em caso de miss, no banco.
+     *
+     * @param email email do usuário
+     * @param loader consulta ao banco
+     * @return Optional contendo uma cópia do usuário se encontrado
+     * @throws SQLException se houver erro na consulta ao banco
+     */
+    public Optional<User> getByEmail(String email, CacheLoader<Optional<User>> loader) throws SQLException {
+        return get(usersByEmail, email, loader);
+    }
+
+    /**
+     * Indica se o username certamente não está em uso, sem consultar o banco.
+     *
+     * @param username username a ser verificado
+     * @return true se o username certamente está livre; false se for preciso consultar o banco
+     */
+    public boolean isUsernameCertainlyFree(String username) {
+        return isCertainlyAbsent(usernames, username);
+    }
+
+    /**
+     * Indica se o email certamente não está em uso, sem consultar o banco.
+     *
+     * @param email email a ser verificado
+     * @return true se o email certamente está livre; false se for preciso consultar o banco
+     */
+    public boolean isEmailCertainlyFree(String email) {
+        return isCertainlyAbsent(emails, email);
+    }
+
+    /**
+     * Registra username e email em uso no cache negativo (após cadastro ou alteração).
+     *
+     * @param username username em uso
+     * @param email email em uso
+     */
+    public void registerIdentity(String username, String email) {
+        if (username != null) {
+            usernames.put(username);
+        }
+        if (email != null) {
+            emails.put(email);
+        }
+    }
+
+    /**
+     * Remove o usuário de todos os índices.
+     *
+     * @param user usuário com ID, username e email que estavam em cache
+     */
+    public void invalidate(User user) {
+        if (user.getId() != null) {
+            usersById.invalidate(user.getId());
+        }
+        if (user.getUsername() != null) {
+            usersByUsername.invalidate(user.getUsername());
+        }
+        if (user.getEmail() != null) {
+            usersByEmail.invalidate(user.getEmail());
+        }
+    }
+
+    private boolean isCertainlyAbsent(BloomFilter filter, String value) {
+        if (!enabled || !bloomReady || value == null || filter.mightContain(value)) {
+            return false;
+        }
+        negativeHits.increment();
+        return true;
+    }
+
+    private <K> Optional<User> get(Cache<K, User> cache, K key, CacheLoader<Optional<User>> loader)
+            throws SQLException {
+        if (!enabled) {
+            return loader.load();
+        }
+        User user = Caches.get(cache, key, () -> loader.load().orElse(null));
+        return Optional.ofNullable(user).map(UserCache::copy);
+    }
+
+    private <K> Cache<K, User> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    private static User copy(User user) {
+        User copy = new User(user.getUsername(), user.getEmail(), user.getPassword());
+        copy.setId(user.getId());
+        copy.setFirstName(user.getFirstName());
+        copy.setLastName(user.getLastName());
+        copy.setIsActive(user.getIsActive());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        return copy;
+    }
+}
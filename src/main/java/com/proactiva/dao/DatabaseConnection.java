@@ -1,29 +1,139 @@
 package com.proactiva.dao;
 
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classe responsável por gerenciar a conexão com o banco de dados Oracle.
  * Utiliza o DataSource configurado no Quarkus.
+ *
+ * Dentro de uma {@link UnitOfWork}, todas as chamadas a {@link #getConnection()} na mesma thread
+ * recebem a conexão da unidade de trabalho, e não uma nova conexão do pool.
+ *
+ * Cada retirada do pool é instrumentada: tempo de espera pela conexão, conexões em uso e ociosas,
+ * tempo de posse por método chamador (o DAO ou, numa unidade de trabalho, o BO) e detecção de
+ * vazamento, que registra a pilha da retirada quando uma conexão fica aberta além do limite.
  */
 @ApplicationScoped
 public class DatabaseConnection {
 
+    private static final Logger LOG = Logger.getLogger(DatabaseConnection.class);
+
+    /**
+     * Fetch size usado nas consultas de streaming. O padrão do driver Oracle (10 linhas)
+     * geraria um round trip a cada 10 linhas; valores maiores reduzem round trips sem
+     * materializar o resultado inteiro em memória.
+     */
+    public static final int STREAM_FETCH_SIZE = 500;
+
     @Inject
     DataSource dataSource;
 
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.db.leak-detection.threshold", defaultValue = "60s")
+    Duration leakDetectionThreshold;
+
+    @ConfigProperty(name = "proactiva.db.leak-detection.interval", defaultValue = "10s")
+    Duration leakDetectionInterval;
+
+    private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+    private final ThreadLocal<int[]> requestCheckouts = new ThreadLocal<>();
+
+    private final Set<Checkout> openCheckouts = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    private Counter checkoutCounter;
+    private Timer acquireTimer;
+    private Counter leakCounter;
+    private ScheduledExecutorService leakDetector;
+
+    @PostConstruct
+    void init() {
+        checkoutCounter = Counter.builder("proactiva.db.connections.acquired")
+                .description("Conexões obtidas do pool")
+                .register(registry);
+        acquireTimer = Timer.builder("proactiva.db.connection.acquire")
+                .description("Espera por uma conexão do pool")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        leakCounter = Counter.builder("proactiva.db.connections.leaks")
+                .description("Conexões mantidas abertas além do limite de detecção de vazamento")
+                .register(registry);
+        Gauge.builder("proactiva.db.connections.in-use", inUse, AtomicInteger::get)
+                .description("Conexões retiradas do pool e ainda não devolvidas")
+                .register(registry);
+
+        // Ociosas e aguardando só são conhecidas pelo pool do Agroal (quarkus.datasource.metrics.enabled)
+        if (dataSource instanceof AgroalDataSource) {
+            AgroalDataSource agroal = (AgroalDataSource) dataSource;
+            Gauge.builder("proactiva.db.connections.idle", agroal, pool -> pool.getMetrics().availableCount())
+                    .description("Conexões ociosas no pool")
+                    .register(registry);
+            Gauge.builder("proactiva.db.connections.pending", agroal, pool -> pool.getMetrics().awaitingCount())
+                    .description("Threads aguardando uma conexão do pool")
+                    .register(registry);
+        }
+
+        if (!leakDetectionThreshold.isZero()) {
+            leakDetector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "proactiva-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = leakDetectionInterval.toMillis();
+            leakDetector.scheduleWithFixedDelay(this::detectLeaks, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+    }
+
     /**
-     * Obtém uma conexão com o banco de dados.
+     * Obtém uma conexão com o banco de dados. Se houver uma unidade de trabalho ativa na thread,
+     * retorna a conexão dela (fechar essa conexão não a devolve ao pool).
      *
      * @return Connection objeto de conexão
      * @throws SQLException se houver erro ao obter conexão
      */
     public Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+        Transaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            return transaction.sharedConnection;
+        }
+        return acquire();
     }
 
     /**
@@ -36,8 +146,213 @@ public class DatabaseConnection {
             try {
                 connection.close();
             } catch (SQLException e) {
-                System.err.println("Erro ao fechar conexão: " + e.getMessage());
+                LOG.warn("Erro ao fechar conexão", e);
+            }
+        }
+    }
+
+    /**
+     * Inicia a contagem de conexões obtidas do pool pela requisição atual (nesta thread).
+     */
+    public void startRequestTracking() {
+        requestCheckouts.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem iniciada por {@link #startRequestTracking()}.
+     *
+     * @return conexões obtidas do pool durante a requisição, ou -1 se a contagem não estava ativa
+     */
+    public int stopRequestTracking() {
+        int[] checkouts = requestCheckouts.get();
+        requestCheckouts.remove();
+        return checkouts != null ? checkouts[0] : -1;
+    }
+
+    /**
+     * Obtém uma conexão física do pool, contabilizando a retirada. A conexão devolvida registra o
+     * tempo de posse ao ser fechada.
+     */
+    Connection acquire() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } finally {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        checkoutCounter.increment();
+        int[] checkouts = requestCheckouts.get();
+        if (checkouts != null) {
+            checkouts[0]++;
+        }
+
+        String caller = callerOf();
+        Throwable stack = leakDetector != null ? new Throwable("Conexão obtida por " + caller) : null;
+        Checkout checkout = new Checkout(caller, Thread.currentThread().getName(), stack);
+        openCheckouts.add(checkout);
+        inUse.incrementAndGet();
+        return checkout.track(connection);
+    }
+
+    /**
+     * Encerra uma retirada: registra o tempo de posse no timer do chamador.
+     */
+    private void release(Checkout checkout) {
+        openCheckouts.remove(checkout);
+        inUse.decrementAndGet();
+        holdTimers.computeIfAbsent(checkout.caller, caller -> Timer.builder("proactiva.db.connection.hold")
+                        .description("Tempo entre a retirada da conexão e sua devolução ao pool")
+                        .tag("caller", caller)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(registry))
+                .record(System.nanoTime() - checkout.startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra, uma única vez por retirada, as conexões abertas há mais tempo que o limite.
+     */
+    void detectLeaks() {
+        long now = System.nanoTime();
+        long threshold = leakDetectionThreshold.toNanos();
+        for (Checkout checkout : openCheckouts) {
+            long held = now - checkout.startNanos;
+            if (held > threshold && checkout.reported.compareAndSet(false, true)) {
+                leakCounter.increment();
+                LOG.warnf(checkout.stack, "Possível vazamento de conexão: aberta há %d ms por %s (thread %s)",
+                        TimeUnit.NANOSECONDS.toMillis(held), checkout.caller, checkout.thread);
             }
         }
     }
+
+    /**
+     * Método que pediu a conexão: o primeiro quadro da pilha fora desta classe, da unidade de
+     * trabalho e dos proxies gerados pelo ArC.
+     */
+    private static String callerOf() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !isInfrastructure(frame.getClassName()))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                })
+                .orElse("unknown"));
+    }
+
+    private static boolean isInfrastructure(String className) {
+        return className.startsWith(DatabaseConnection.class.getName())
+                || className.startsWith(UnitOfWork.class.getName())
+                || className.contains("_ClientProxy")
+                || className.contains("_Subclass");
+    }
+
+    /**
+     * Transação da unidade de trabalho ativa na thread atual, ou null.
+     */
+    Transaction currentTransaction() {
+        return currentTransaction.get();
+    }
+
+    /**
+     * Associa uma transação à thread atual.
+     */
+    void bind(Transaction transaction) {
+        currentTransaction.set(transaction);
+    }
+
+    /**
+     * Remove a transação associada à thread atual.
+     */
+    void unbind() {
+        currentTransaction.remove();
+    }
+
+    /**
+     * Uma retirada de conexão do pool ainda não devolvida.
+     */
+    private final class Checkout {
+
+        final String caller;
+        final String thread;
+        final Throwable stack;
+        final long startNanos = System.nanoTime();
+        final AtomicBoolean reported = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Checkout(String caller, String thread, Throwable stack) {
+            this.caller = caller;
+            this.thread = thread;
+            this.stack = stack;
+        }
+
+        /**
+         * Visão da conexão que encerra a retirada no primeiro close.
+         */
+        Connection track(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            release(this);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Conexão física de uma unidade de trabalho e as ações a executar após o commit.
+     */
+    static final class Transaction {
+
+        final Connection connection;
+        final Connection sharedConnection;
+        final List<Runnable> afterCommit = new ArrayList<>();
+        final List<Runnable> afterCompletion = new ArrayList<>();
+
+        Transaction(Connection connection) {
+            this.connection = connection;
+            this.sharedConnection = sharedView(connection);
+        }
+
+        /**
+         * Visão da conexão entregue aos DAOs: close, commit, rollback e setAutoCommit são
+         * ignorados, pois o ciclo de vida da transação pertence à unidade de trabalho.
+         */
+        private static Connection sharedView(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setAutoCommit":
+                                return null;
+                            case "close":
+                            case "commit":
+                            case "rollback":
+                                // rollback(Savepoint) continua chegando à conexão
+                                if (method.getParameterCount() == 0) {
+                                    return null;
+                                }
+                                break;
+                            case "isClosed":
+                                return connection.isClosed();
+                            default:
+                                break;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
 }
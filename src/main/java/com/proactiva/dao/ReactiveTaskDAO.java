@@ -0,0 +1,136 @@
+package com.proactiva.dao;
+
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.model.Task;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Acesso a dados de tarefas com o cliente SQL reativo do Oracle.
+ *
+ * Implementação alternativa ao {@link TaskDAO}: as consultas são as mesmas, mas nenhuma thread
+ * fica bloqueada esperando o banco. Usado pelos endpoints de leitura reativos
+ * ({@code proactiva.reactive-reads.enabled}).
+ */
+@ApplicationScoped
+public class ReactiveTaskDAO {
+
+    @Inject
+    Pool pool;
+
+    /**
+     * Busca uma tarefa por ID.
+     *
+     * @param id ID da tarefa
+     * @return Uni com Optional contendo a tarefa se encontrada
+     */
+    public Uni<Optional<Task>> findById(Long id) {
+        String sql = "SELECT " + TaskDAO.TASK_COLUMNS + " FROM TASKS WHERE ID = ?";
+
+        return pool.preparedQuery(sql)
+                .execute(Tuple.of(id))
+                .map(rows -> firstRow(rows).map(ReactiveTaskDAO::mapTask));
+    }
+
+    /**
+     * Busca só a versão da tarefa (UPDATED_AT), para revalidar uma ETag sem ler a linha inteira.
+     *
+     * @param id ID da tarefa
+     * @return Uni com Optional contendo a versão se a tarefa existir
+     */
+    public Uni<Optional<ResourceVersion>> findVersion(Long id) {
+        String sql = "SELECT UPDATED_AT FROM TASKS WHERE ID = ?";
+
+        return pool.preparedQuery(sql)
+                .execute(Tuple.of(id))
+                .map(rows -> firstRow(rows).map(row -> new ResourceVersion(1, id, row.getLocalDateTime(0))));
+    }
+
+    /**
+     * Calcula a versão da lista devolvida por {@link #findByUserId(Long)} com a mesma agregação de
+     * {@link TaskDAO#findVersionByUserId(Long)}, sem transferir as linhas.
+     *
+     * @param userId ID do usuário
+     * @return Uni com a versão da lista
+     */
+    public Uni<ResourceVersion> findVersionByUserId(Long userId) {
+        String sql = "SELECT COUNT(*), COALESCE(SUM(ID), 0), MAX(UPDATED_AT) FROM (" +
+                "SELECT ID, UPDATED_AT FROM TASKS WHERE USER_ID = ? ORDER BY CREATED_AT DESC, ID DESC " +
+                "FETCH FIRST " + TaskDAO.MAX_PAGE_SIZE + " ROWS ONLY)";
+
+        return pool.preparedQuery(sql)
+                .execute(Tuple.of(userId))
+                .map(rows -> {
+                    Row row = rows.iterator().next();
+                    return new ResourceVersion(row.getLong(0), row.getLong(1), row.getLocalDateTime(2));
+                });
+    }
+
+    /**
+     * Lista as tarefas mais recentes de um usuário, limitadas a {@link TaskDAO#MAX_PAGE_SIZE}, com a
+     * prévia no lugar da descrição.
+     *
+     * @param userId ID do usuário
+     * @return Multi com as tarefas, mais recentes primeiro
+     */
+    public Multi<Task> findByUserId(Long userId) {
+        String sql = "SELECT " + TaskDAO.SUMMARY_COLUMNS + " FROM TASKS WHERE USER_ID = ? " +
+                "ORDER BY CREATED_AT DESC, ID DESC FETCH FIRST " + TaskDAO.MAX_PAGE_SIZE + " ROWS ONLY";
+
+        return pool.preparedQuery(sql)
+                .execute(Tuple.of(userId))
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(ReactiveTaskDAO::mapSummary);
+    }
+
+    /**
+     * Mapeia uma linha na ordem de {@link TaskDAO#TASK_COLUMNS}.
+     */
+    static Task mapTask(Row row) {
+        Task task = new Task();
+        task.setId(row.getLong(0));
+        task.setUserId(row.getLong(1));
+        task.setTitle(row.getString(2));
+        task.setDescription(row.getString(3));
+        task.setCategory(row.getString(4));
+        task.setPriority(row.getString(5));
+        task.setStatus(row.getString(6));
+        task.setDueDate(row.getLocalDateTime(7));
+        task.setCompletedAt(row.getLocalDateTime(8));
+        task.setCreatedAt(row.getLocalDateTime(9));
+        task.setUpdatedAt(row.getLocalDateTime(10));
+        return task;
+    }
+
+    /**
+     * Mapeia uma linha na ordem de {@link TaskDAO#SUMMARY_COLUMNS}.
+     */
+    static Task mapSummary(Row row) {
+        Task task = new Task();
+        task.setId(row.getLong(0));
+        task.setUserId(row.getLong(1));
+        task.setTitle(row.getString(2));
+        task.setDescriptionPreview(row.getString(3));
+        task.setCategory(row.getString(4));
+        task.setPriority(row.getString(5));
+        task.setStatus(row.getString(6));
+        task.setDueDate(row.getLocalDateTime(7));
+        task.setCompletedAt(row.getLocalDateTime(8));
+        task.setCreatedAt(row.getLocalDateTime(9));
+        task.setUpdatedAt(row.getLocalDateTime(10));
+        return task;
+    }
+
+    static Optional<Row> firstRow(RowSet<Row> rows) {
+        Iterator<Row> iterator = rows.iterator();
+        return iterator.hasNext() ? Optional.of(iterator.next()) : Optional.empty();
+    }
+}
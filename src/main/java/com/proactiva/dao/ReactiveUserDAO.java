@@ -0,0 +1,66 @@
+package com.proactiva.dao;
+
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.model.User;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Optional;
+
+/**
+ * Acesso a dados de usuários com o cliente SQL reativo do Oracle, alternativa ao {@link UserDAO}
+ * para as leituras públicas (sem o hash da senha).
+ */
+@ApplicationScoped
+public class ReactiveUserDAO {
+
+    @Inject
+    Pool pool;
+
+    /**
+     * Busca um usuário por ID, sem a senha.
+     *
+     * @param id ID do usuário
+     * @return Uni com Optional contendo o usuário se encontrado
+     */
+    public Uni<Optional<User>> findById(Long id) {
+        String sql = "SELECT " + UserDAO.USER_COLUMNS + " FROM USERS WHERE ID = ?";
+
+        return pool.preparedQuery(sql)
+                .execute(Tuple.of(id))
+                .map(rows -> ReactiveTaskDAO.firstRow(rows).map(ReactiveUserDAO::mapUser));
+    }
+
+    /**
+     * Busca só a versão do usuário (UPDATED_AT), para revalidar uma ETag sem ler a linha inteira.
+     *
+     * @param id ID do usuário
+     * @return Uni com Optional contendo a versão se o usuário existir
+     */
+    public Uni<Optional<ResourceVersion>> findVersion(Long id) {
+        String sql = "SELECT UPDATED_AT FROM USERS WHERE ID = ?";
+
+        return pool.preparedQuery(sql)
+                .execute(Tuple.of(id))
+                .map(rows -> ReactiveTaskDAO.firstRow(rows)
+                        .map(row -> new ResourceVersion(1, id, row.getLocalDateTime(0))));
+    }
+
+    /**
+     * Mapeia uma linha na ordem de {@link UserDAO#USER_COLUMNS}.
+     */
+    static User mapUser(Row row) {
+        User user = new User();
+        user.setId(row.getLong(0));
+        user.setUsername(row.getString(1));
+        user.setEmail(row.getString(2));
+        user.setFirstName(row.getString(3));
+        user.setLastName(row.getString(4));
+        user.setCreatedAt(row.getLocalDateTime(5));
+        user.setUpdatedAt(row.getLocalDateTime(6));
+        return user;
+    }
+}
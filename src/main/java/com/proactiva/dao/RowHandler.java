@@ -0,0 +1,20 @@
+package com.proactiva.dao;
+
+import java.io.IOException;
+
+/**
+ * Callback que recebe cada linha de uma consulta de streaming assim que ela é lida do ResultSet.
+ *
+ * @param <T> tipo da entidade mapeada
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+
+    /**
+     * Processa uma linha lida do banco de dados.
+     *
+     * @param row entidade mapeada a partir da linha atual
+     * @throws IOException se houver erro ao escrever a linha no destino
+     */
+    void handle(T row) throws IOException;
+}
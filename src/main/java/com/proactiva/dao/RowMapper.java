@@ -0,0 +1,40 @@
+package com.proactiva.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Converte a linha atual de um ResultSet em uma entidade.
+ *
+ * Os mapeadores dos DAOs leem as colunas por posição, de acordo com a lista explícita de
+ * colunas do SELECT correspondente; por isso cada lista de colunas tem o seu mapeador.
+ *
+ * @param <T> tipo da entidade mapeada
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Mapeia a linha atual do ResultSet.
+     *
+     * @param rs ResultSet posicionado na linha a ser lida
+     * @return entidade mapeada
+     * @throws SQLException se houver erro ao ler dados
+     */
+    T map(ResultSet rs) throws SQLException;
+
+    /**
+     * Lê uma coluna TIMESTAMP como LocalDateTime.
+     *
+     * @param rs ResultSet posicionado na linha
+     * @param index posição da coluna (começando em 1)
+     * @return data/hora ou null se a coluna for nula
+     * @throws SQLException se houver erro ao ler dados
+     */
+    static LocalDateTime getLocalDateTime(ResultSet rs, int index) throws SQLException {
+        Timestamp value = rs.getTimestamp(index);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.proactiva.dao;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Alocador de IDs em blocos a partir de sequences do Oracle (otimizador "pooled-lo").
+ *
+ * Cada NEXTVAL reserva o bloco [valor, valor + INCREMENT_BY - 1], que é entregue em memória
+ * sem locks. Como cada nó que compartilha a sequence recebe valores distintos do NEXTVAL,
+ * os blocos nunca se sobrepõem entre nós da API, nem com quem ainda usa NEXTVAL diretamente.
+ *
+ * O tamanho do bloco é o INCREMENT_BY da própria sequence, lido de USER_SEQUENCES na mesma
+ * consulta de cada NEXTVAL. A TASKS_SEQ precisa de {@code ALTER SEQUENCE TASKS_SEQ INCREMENT BY 50}
+ * (ver README, "IDs das tarefas"): com INCREMENT BY 1 cada inserção faz a ida ao banco do NEXTVAL,
+ * agora com a subconsulta da USER_SEQUENCES. Como o incremento é relido a cada bloco, uma alteração
+ * vale para o próximo bloco de todos os nós; só os blocos já reservados no momento do ALTER usam o
+ * valor antigo.
+ *
+ * A reserva de um bloco faz I/O de JDBC e por isso usa um {@link ReentrantLock} e não
+ * {@code synchronized}, que prenderia a virtual thread à carrier enquanto espera o banco.
+ */
+@ApplicationScoped
+public class SequenceIdAllocator {
+
+    private final Map<String, SequenceBlock> sequences = new ConcurrentHashMap<>();
+
+    /**
+     * Obtém o próximo ID da sequence. Só acessa o banco quando o bloco atual se esgota,
+     * e nesse caso usa a conexão recebida (a mesma da inserção).
+     *
+     * @param conn conexão usada caso seja preciso reservar um novo bloco
+     * @param sequenceName nome da sequence (constante interna, não vem do usuário)
+     * @return próximo ID disponível
+     * @throws SQLException se houver erro ao reservar um novo bloco
+     */
+    public long nextId(Connection conn, String sequenceName) throws SQLException {
+        return sequences.computeIfAbsent(sequenceName, SequenceBlock::new).next(conn);
+    }
+
+    /**
+     * Estado de alocação de uma sequence.
+     */
+    private static final class SequenceBlock {
+
+        private final String sequenceName;
+        private final ReentrantLock refillLock = new ReentrantLock();
+        private volatile Range range = new Range(1, 0);
+
+        SequenceBlock(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+
+        long next(Connection conn) throws SQLException {
+            while (true) {
+                Range current = range;
+                long id = current.next.getAndIncrement();
+                if (id <= current.last) {
+                    return id;
+                }
+
+                // Bloco esgotado: apenas uma thread reserva o próximo, as demais tentam de novo
+                refillLock.lock();
+                try {
+                    if (range == current) {
+                        range = reserve(conn);
+                    }
+                } finally {
+                    refillLock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Reserva o bloco do próximo NEXTVAL, com o INCREMENT_BY em vigor lido na mesma consulta
+         * (nunca um valor guardado de um bloco anterior).
+         */
+        private Range reserve(Connection conn) throws SQLException {
+            String sql = "SELECT " + sequenceName + ".NEXTVAL, " +
+                    "(SELECT INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME = ?) FROM DUAL";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, sequenceName);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        long low = rs.getLong(1);
+                        // Sequence não encontrada na USER_SEQUENCES (null): um ID por NEXTVAL
+                        long incrementBy = Math.max(1, rs.getLong(2));
+                        return new Range(low, low + incrementBy - 1);
+                    }
+                }
+            }
+
+            throw new SQLException("Falha ao obter o próximo valor da sequence " + sequenceName + ".");
+        }
+    }
+
+    /**
+     * Intervalo [next, last] de IDs ainda disponíveis em memória.
+     */
+    private static final class Range {
+
+        final AtomicLong next;
+        final long last;
+
+        Range(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
@@ -1,23 +1,114 @@
 package com.proactiva.dao;
 
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.dto.TaskCursor;
+import com.proactiva.dto.TaskStats;
 import com.proactiva.model.Task;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Data Access Object para a entidade Task.
  * Implementa operações CRUD utilizando JDBC puro.
+ * Cada método público é medido no timer "proactiva.db.query" (tags class e method).
  */
 @ApplicationScoped
+@Timed(value = "proactiva.db.query", percentiles = {0.5, 0.95, 0.99})
 public class TaskDAO {
 
+    /**
+     * Tamanho de página padrão quando o cliente não informa "limit".
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Limite máximo de linhas retornadas por qualquer listagem, paginada ou não.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Sequence usada para gerar os IDs das tarefas.
+     */
+    static final String TASKS_SEQUENCE = "TASKS_SEQ";
+
+    /**
+     * Colunas lidas nas consultas de tarefas, na ordem esperada por {@link #TASK_MAPPER}.
+     */
+    static final String TASK_COLUMNS = "ID, USER_ID, TITLE, DESCRIPTION, CATEGORY, PRIORITY, STATUS, " +
+            "DUE_DATE, COMPLETED_AT, CREATED_AT, UPDATED_AT";
+
+    /**
+     * Mapeador posicional correspondente a {@link #TASK_COLUMNS}.
+     */
+    static final RowMapper<Task> TASK_MAPPER = rs -> {
+        Task task = new Task();
+        task.setId(rs.getLong(1));
+        task.setUserId(rs.getLong(2));
+        task.setTitle(rs.getString(3));
+        task.setDescription(rs.getString(4));
+        task.setCategory(rs.getString(5));
+        task.setPriority(rs.getString(6));
+        task.setStatus(rs.getString(7));
+        task.setDueDate(RowMapper.getLocalDateTime(rs, 8));
+        task.setCompletedAt(RowMapper.getLocalDateTime(rs, 9));
+        task.setCreatedAt(RowMapper.getLocalDateTime(rs, 10));
+        task.setUpdatedAt(RowMapper.getLocalDateTime(rs, 11));
+        return task;
+    };
+
+    /**
+     * Tamanho, em caracteres, da prévia da descrição devolvida nas listagens.
+     */
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+
+    /**
+     * Prévia da descrição calculada no banco. O SUBSTR de um CLOB ainda é um CLOB; o CAST para
+     * VARCHAR2 faz a prévia chegar como texto na própria linha, sem localizador de LOB.
+     */
+    static final String DESCRIPTION_PREVIEW = "CAST(SUBSTR(DESCRIPTION, 1, " + DESCRIPTION_PREVIEW_LENGTH +
+            ") AS VARCHAR2(" + DESCRIPTION_PREVIEW_LENGTH * 4 + "))";
+
+    /**
+     * Colunas das listagens: as mesmas de {@link #TASK_COLUMNS}, com a prévia no lugar da descrição.
+     */
+    static final String SUMMARY_COLUMNS = "ID, USER_ID, TITLE, " + DESCRIPTION_PREVIEW + ", CATEGORY, PRIORITY, " +
+            "STATUS, DUE_DATE, COMPLETED_AT, CREATED_AT, UPDATED_AT";
+
+    /**
+     * Mapeador posicional correspondente a {@link #SUMMARY_COLUMNS}; a descrição fica null.
+     */
+    static final RowMapper<Task> SUMMARY_MAPPER = rs -> {
+        Task task = new Task();
+        task.setId(rs.getLong(1));
+        task.setUserId(rs.getLong(2));
+        task.setTitle(rs.getString(3));
+        task.setDescriptionPreview(rs.getString(4));
+        task.setCategory(rs.getString(5));
+        task.setPriority(rs.getString(6));
+        task.setStatus(rs.getString(7));
+        task.setDueDate(RowMapper.getLocalDateTime(rs, 8));
+        task.setCompletedAt(RowMapper.getLocalDateTime(rs, 9));
+        task.setCreatedAt(RowMapper.getLocalDateTime(rs, 10));
+        task.setUpdatedAt(RowMapper.getLocalDateTime(rs, 11));
+        return task;
+    };
+
     @Inject
     DatabaseConnection databaseConnection;
 
+    @Inject
+    SequenceIdAllocator idAllocator;
+
     /**
      * Cria uma nova tarefa no banco de dados.
      *
@@ -26,27 +117,17 @@ public class TaskDAO {
      * @throws SQLException se houver erro na operação
      */
     public Task create(Task task) throws SQLException {
-        // 1. Obter o próximo ID da sequence
-        String seqSql = "SELECT TASKS_SEQ.NEXTVAL FROM DUAL";
-        Long nextId = null;
-        try (Connection conn = databaseConnection.getConnection();
-                 Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(seqSql)){
-            if (rs.next()) {
-                nextId = rs.getLong(1);
-                task.setId(nextId);
-            } else {
-                throw new SQLException("Falha ao obter o próximo valor da sequence TASKS_SEQ.");
-            }
-        }
-
-        // 2. Inserir a tarefa com o ID obtido
         String insertSql = "INSERT INTO TASKS (ID, USER_ID, TITLE, DESCRIPTION, CATEGORY, PRIORITY, STATUS, DUE_DATE, CREATED_AT, UPDATED_AT) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, SYSTIMESTAMP, SYSTIMESTAMP)";
 
         try (Connection conn = databaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(insertSql)) {
 
+            // O ID vem do bloco reservado em memória; a sequence só é consultada
+            // (nesta mesma conexão) quando o bloco se esgota.
+            long nextId = idAllocator.nextId(conn, TASKS_SEQUENCE);
+            task.setId(nextId);
+
             stmt.setLong(1, nextId); // ID
             stmt.setLong(2, task.getUserId()); // USER_ID
             stmt.setString(3, task.getTitle()); // TITLE
@@ -66,14 +147,58 @@ public class TaskDAO {
             if (affectedRows == 0) {
                 throw new SQLException("Falha ao criar tarefa, nenhuma linha afetada.");
             }
-
-            // O ID já foi definido no início do método.
-            // Não é necessário obter o ID gerado, pois ele foi inserido manualmente.
         }
 
         return task;
     }
 
+    /**
+     * Cria várias tarefas em um único batch JDBC, na conexão (e transação) do chamador.
+     *
+     * @param conn conexão da transação em andamento
+     * @param tasks tarefas a serem criadas
+     * @return tarefas criadas com IDs gerados
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> createBatch(Connection conn, List<Task> tasks) throws SQLException {
+        String insertSql = "INSERT INTO TASKS (ID, USER_ID, TITLE, DESCRIPTION, CATEGORY, PRIORITY, STATUS, DUE_DATE, CREATED_AT, UPDATED_AT) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, SYSTIMESTAMP, SYSTIMESTAMP)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+
+            for (Task task : tasks) {
+                task.setId(idAllocator.nextId(conn, TASKS_SEQUENCE));
+
+                stmt.setLong(1, task.getId());
+                stmt.setLong(2, task.getUserId());
+                stmt.setString(3, task.getTitle());
+                stmt.setString(4, task.getDescription());
+                stmt.setString(5, task.getCategory());
+                stmt.setString(6, task.getPriority());
+                stmt.setString(7, task.getStatus());
+
+                if (task.getDueDate() != null) {
+                    stmt.setTimestamp(8, Timestamp.valueOf(task.getDueDate()));
+                } else {
+                    stmt.setNull(8, Types.TIMESTAMP);
+                }
+
+                stmt.addBatch();
+            }
+
+            int[] results = stmt.executeBatch();
+
+            for (int result : results) {
+                // O driver Oracle pode retornar SUCCESS_NO_INFO em vez da contagem de linhas
+                if (result == 0 || result == Statement.EXECUTE_FAILED) {
+                    throw new SQLException("Falha ao criar tarefas em lote, nenhuma linha afetada.");
+                }
+            }
+        }
+
+        return tasks;
+    }
+
     /**
      * Busca uma tarefa por ID.
      *
@@ -82,7 +207,119 @@ public class TaskDAO {
      * @throws SQLException se houver erro na operação
      */
     public Optional<Task> findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM TASKS WHERE ID = ?";
+        String sql = "SELECT " + TASK_COLUMNS + " FROM TASKS WHERE ID = ?";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(TASK_MAPPER.map(rs));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Busca apenas a versão (ID e UPDATED_AT) de uma tarefa, sem ler a descrição.
+     *
+     * @param id ID da tarefa
+     * @return Optional contendo a versão se a tarefa existir
+     * @throws SQLException se houver erro na operação
+     */
+    public Optional<ResourceVersion> findVersion(Long id) throws SQLException {
+        String sql = "SELECT UPDATED_AT FROM TASKS WHERE ID = ?";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new ResourceVersion(1, id, RowMapper.getLocalDateTime(rs, 1)));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Calcula a versão da lista devolvida por {@link #findByUserId(Long)} com uma agregação sobre
+     * as mesmas linhas, sem transferi-las.
+     *
+     * @param userId ID do usuário
+     * @return versão da lista
+     * @throws SQLException se houver erro na operação
+     */
+    public ResourceVersion findVersionByUserId(Long userId) throws SQLException {
+        String sql = "SELECT COUNT(*), COALESCE(SUM(ID), 0), MAX(UPDATED_AT) FROM (" +
+                "SELECT ID, UPDATED_AT FROM TASKS WHERE USER_ID = ? ORDER BY CREATED_AT DESC, ID DESC " +
+                "FETCH FIRST " + MAX_PAGE_SIZE + " ROWS ONLY)";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, userId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return new ResourceVersion(rs.getLong(1), rs.getLong(2), RowMapper.getLocalDateTime(rs, 3));
+            }
+        }
+    }
+
+    /**
+     * Conta as tarefas de um usuário por status, categoria e prioridade com um único GROUP BY.
+     * As contagens por dimensão são somadas a partir das combinações retornadas.
+     *
+     * @param userId ID do usuário
+     * @return estatísticas do usuário (mapas vazios se não houver tarefas)
+     * @throws SQLException se houver erro na operação
+     */
+    public TaskStats findStatsByUserId(Long userId) throws SQLException {
+        String sql = "SELECT STATUS, CATEGORY, PRIORITY, COUNT(*) FROM TASKS WHERE USER_ID = ? " +
+                "GROUP BY STATUS, CATEGORY, PRIORITY";
+        long total = 0;
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byCategory = new TreeMap<>();
+        Map<String, Long> byPriority = new TreeMap<>();
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, userId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long count = rs.getLong(4);
+                    total += count;
+                    byStatus.merge(rs.getString(1), count, Long::sum);
+                    byCategory.merge(rs.getString(2), count, Long::sum);
+                    byPriority.merge(rs.getString(3), count, Long::sum);
+                }
+            }
+        }
+
+        return new TaskStats(total, byStatus, byCategory, byPriority);
+    }
+
+    /**
+     * Busca uma tarefa por ID bloqueando a linha até o fim da transação (SELECT ... FOR UPDATE).
+     * Deve ser usado dentro de uma {@link UnitOfWork}, para que a leitura e a escrita seguintes
+     * sejam atômicas.
+     *
+     * @param id ID da tarefa
+     * @return Optional contendo a tarefa se encontrada
+     * @throws SQLException se houver erro na operação
+     */
+    public Optional<Task> findByIdForUpdate(Long id) throws SQLException {
+        String sql = "SELECT " + TASK_COLUMNS + " FROM TASKS WHERE ID = ? FOR UPDATE";
 
         try (Connection conn = databaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -91,7 +328,7 @@ public class TaskDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(mapResultSetToTask(rs));
+                    return Optional.of(TASK_MAPPER.map(rs));
                 }
             }
         }
@@ -100,14 +337,65 @@ public class TaskDAO {
     }
 
     /**
-     * Lista todas as tarefas de um usuário.
+     * Copia a descrição completa de uma tarefa para o writer, lendo o CLOB em streaming pelo
+     * {@link Reader} do driver, sem montar a String inteira em memória.
+     *
+     * @param id ID da tarefa
+     * @param out destino da descrição
+     * @return false se a tarefa não existir
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se houver erro ao escrever no destino
+     */
+    public boolean copyDescription(Long id, Writer out) throws SQLException, IOException {
+        String sql = "SELECT DESCRIPTION FROM TASKS WHERE ID = ?";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return false;
+                }
+
+                Clob description = rs.getClob(1);
+                if (description == null) {
+                    return true;
+                }
+                try (Reader reader = description.getCharacterStream()) {
+                    reader.transferTo(out);
+                } finally {
+                    description.free();
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Lista as tarefas mais recentes de um usuário, limitadas a {@link #MAX_PAGE_SIZE}, sem a
+     * descrição completa (ver {@link TaskProjection#SUMMARY}).
      *
      * @param userId ID do usuário
      * @return lista de tarefas
      * @throws SQLException se houver erro na operação
      */
     public List<Task> findByUserId(Long userId) throws SQLException {
-        String sql = "SELECT * FROM TASKS WHERE USER_ID = ? ORDER BY CREATED_AT DESC";
+        return findByUserId(userId, TaskProjection.SUMMARY);
+    }
+
+    /**
+     * Lista as tarefas mais recentes de um usuário lendo apenas as colunas da projeção.
+     *
+     * @param userId ID do usuário
+     * @param projection campos a serem lidos
+     * @return lista de tarefas (campos fora da projeção ficam null)
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findByUserId(Long userId, TaskProjection projection) throws SQLException {
+        String sql = "SELECT " + projection.columns() + " FROM TASKS WHERE USER_ID = ? ORDER BY CREATED_AT DESC, ID DESC " +
+                "FETCH FIRST " + MAX_PAGE_SIZE + " ROWS ONLY";
         List<Task> tasks = new ArrayList<>();
 
         try (Connection conn = databaseConnection.getConnection();
@@ -117,7 +405,7 @@ public class TaskDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    tasks.add(mapResultSetToTask(rs));
+                    tasks.add(projection.map(rs));
                 }
             }
         }
@@ -126,7 +414,8 @@ public class TaskDAO {
     }
 
     /**
-     * Lista tarefas de um usuário filtradas por status.
+     * Lista tarefas de um usuário filtradas por status, limitadas a {@link #MAX_PAGE_SIZE}, sem a
+     * descrição completa.
      *
      * @param userId ID do usuário
      * @param status status da tarefa
@@ -134,7 +423,22 @@ public class TaskDAO {
      * @throws SQLException se houver erro na operação
      */
     public List<Task> findByUserIdAndStatus(Long userId, String status) throws SQLException {
-        String sql = "SELECT * FROM TASKS WHERE USER_ID = ? AND STATUS = ? ORDER BY CREATED_AT DESC";
+        return findByUserIdAndStatus(userId, status, TaskProjection.SUMMARY);
+    }
+
+    /**
+     * Lista tarefas de um usuário filtradas por status lendo apenas as colunas da projeção.
+     *
+     * @param userId ID do usuário
+     * @param status status da tarefa
+     * @param projection campos a serem lidos
+     * @return lista de tarefas (campos fora da projeção ficam null)
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findByUserIdAndStatus(Long userId, String status, TaskProjection projection)
+            throws SQLException {
+        String sql = "SELECT " + projection.columns() + " FROM TASKS WHERE USER_ID = ? AND STATUS = ? " +
+                "ORDER BY CREATED_AT DESC, ID DESC FETCH FIRST " + MAX_PAGE_SIZE + " ROWS ONLY";
         List<Task> tasks = new ArrayList<>();
 
         try (Connection conn = databaseConnection.getConnection();
@@ -145,7 +449,7 @@ public class TaskDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    tasks.add(mapResultSetToTask(rs));
+                    tasks.add(projection.map(rs));
                 }
             }
         }
@@ -154,13 +458,25 @@ public class TaskDAO {
     }
 
     /**
-     * Lista todas as tarefas.
+     * Lista as tarefas mais recentes, limitadas a {@link #MAX_PAGE_SIZE}, sem a descrição completa.
      *
      * @return lista de tarefas
      * @throws SQLException se houver erro na operação
      */
     public List<Task> findAll() throws SQLException {
-        String sql = "SELECT * FROM TASKS ORDER BY CREATED_AT DESC";
+        return findAll(TaskProjection.SUMMARY);
+    }
+
+    /**
+     * Lista as tarefas mais recentes lendo apenas as colunas da projeção.
+     *
+     * @param projection campos a serem lidos
+     * @return lista de tarefas (campos fora da projeção ficam null)
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findAll(TaskProjection projection) throws SQLException {
+        String sql = "SELECT " + projection.columns() + " FROM TASKS ORDER BY CREATED_AT DESC, ID DESC " +
+                "FETCH FIRST " + MAX_PAGE_SIZE + " ROWS ONLY";
         List<Task> tasks = new ArrayList<>();
 
         try (Connection conn = databaseConnection.getConnection();
@@ -168,13 +484,107 @@ public class TaskDAO {
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                tasks.add(mapResultSetToTask(rs));
+                tasks.add(projection.map(rs));
             }
         }
 
         return tasks;
     }
 
+    /**
+     * Percorre todas as tarefas enviando cada linha ao handler assim que é lida,
+     * sem acumular o resultado em memória.
+     *
+     * @param handler callback chamado para cada tarefa
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se o handler falhar ao escrever a linha
+     */
+    public void streamAll(RowHandler<Task> handler) throws SQLException, IOException {
+        String sql = "SELECT " + TASK_COLUMNS + " FROM TASKS ORDER BY CREATED_AT DESC, ID DESC";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(DatabaseConnection.STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(TASK_MAPPER.map(rs));
+                }
+            }
+        }
+    }
+
+    /**
+     * Percorre as tarefas em aberto (não concluídas) que têm prazo, sem a descrição completa,
+     * usadas para carregar o acompanhamento de prazos.
+     *
+     * @param handler callback chamado para cada tarefa
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se o handler falhar
+     */
+    public void streamOpenWithDueDate(RowHandler<Task> handler) throws SQLException, IOException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM TASKS " +
+                "WHERE DUE_DATE IS NOT NULL AND STATUS <> 'CONCLUIDO'";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(DatabaseConnection.STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(SUMMARY_MAPPER.map(rs));
+                }
+            }
+        }
+    }
+
+    /**
+     * Busca uma página de tarefas usando paginação por chave (keyset).
+     * Retorna até {@code limit + 1} linhas para que o chamador saiba se existe próxima página.
+     *
+     * @param after cursor da última tarefa da página anterior (null para a primeira página)
+     * @param limit tamanho da página
+     * @param projection campos a serem lidos
+     * @return tarefas da página, com no máximo {@code limit + 1} itens
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findAllPage(TaskCursor after, int limit, TaskProjection projection) throws SQLException {
+        return findPage(projection, null, after, limit);
+    }
+
+    /**
+     * Busca uma página de tarefas de um usuário usando paginação por chave (keyset).
+     *
+     * @param userId ID do usuário
+     * @param after cursor da última tarefa da página anterior (null para a primeira página)
+     * @param limit tamanho da página
+     * @param projection campos a serem lidos
+     * @return tarefas da página, com no máximo {@code limit + 1} itens
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findByUserIdPage(Long userId, TaskCursor after, int limit, TaskProjection projection)
+            throws SQLException {
+        return findPage(projection, "USER_ID = ?", after, limit, userId);
+    }
+
+    /**
+     * Busca uma página de tarefas de um usuário filtradas por status usando paginação por chave (keyset).
+     *
+     * @param userId ID do usuário
+     * @param status status da tarefa
+     * @param after cursor da última tarefa da página anterior (null para a primeira página)
+     * @param limit tamanho da página
+     * @param projection campos a serem lidos
+     * @return tarefas da página, com no máximo {@code limit + 1} itens
+     * @throws SQLException se houver erro na operação
+     */
+    public List<Task> findByUserIdAndStatusPage(Long userId, String status, TaskCursor after, int limit,
+                                                TaskProjection projection) throws SQLException {
+        return findPage(projection, "USER_ID = ? AND STATUS = ?", after, limit, userId, status);
+    }
+
     /**
      * Atualiza uma tarefa existente.
      *
@@ -241,42 +651,63 @@ public class TaskDAO {
     }
 
     /**
-     * Mapeia um ResultSet para um objeto Task.
+     * Executa uma consulta paginada por (CREATED_AT, ID) sem OFFSET: a página seguinte
+     * começa imediatamente após a posição do cursor, usando o índice de ordenação.
      *
-     * @param rs ResultSet contendo dados da tarefa
-     * @return objeto Task
-     * @throws SQLException se houver erro ao ler dados
+     * @param projection campos a serem lidos
+     * @param filter filtro adicional da cláusula WHERE (null se não houver)
+     * @param after cursor da página anterior (null para a primeira página)
+     * @param limit tamanho da página
+     * @param filterParams valores dos parâmetros do filtro, na ordem
+     * @return até {@code limit + 1} tarefas
+     * @throws SQLException se houver erro na operação
      */
-    private Task mapResultSetToTask(ResultSet rs) throws SQLException {
-        Task task = new Task();
-        task.setId(rs.getLong("ID"));
-        task.setUserId(rs.getLong("USER_ID"));
-        task.setTitle(rs.getString("TITLE"));
-        task.setDescription(rs.getString("DESCRIPTION"));
-        task.setCategory(rs.getString("CATEGORY"));
-        task.setPriority(rs.getString("PRIORITY"));
-        task.setStatus(rs.getString("STATUS"));
-
-        Timestamp dueDate = rs.getTimestamp("DUE_DATE");
-        if (dueDate != null) {
-            task.setDueDate(dueDate.toLocalDateTime());
+    private List<Task> findPage(TaskProjection projection, String filter, TaskCursor after, int limit,
+                                Object... filterParams) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT " + projection.columns() + " FROM TASKS");
+        List<String> conditions = new ArrayList<>();
+        if (filter != null) {
+            conditions.add(filter);
         }
-
-        Timestamp completedAt = rs.getTimestamp("COMPLETED_AT");
-        if (completedAt != null) {
-            task.setCompletedAt(completedAt.toLocalDateTime());
+        if (after != null && after.getCreatedAt() != null) {
+            conditions.add("(CREATED_AT < ? OR (CREATED_AT = ? AND ID < ?))");
+        } else if (after != null) {
+            // No Oracle, CREATED_AT nulo vem antes de todas as datas em ordem decrescente
+            conditions.add("(CREATED_AT IS NOT NULL OR ID < ?)");
         }
-
-        Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-        if (createdAt != null) {
-            task.setCreatedAt(createdAt.toLocalDateTime());
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
         }
+        sql.append(" ORDER BY CREATED_AT DESC, ID DESC FETCH FIRST ? ROWS ONLY");
 
-        Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-        if (updatedAt != null) {
-            task.setUpdatedAt(updatedAt.toLocalDateTime());
+        List<Task> tasks = new ArrayList<>();
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            for (Object param : filterParams) {
+                stmt.setObject(index++, param);
+            }
+
+            if (after != null) {
+                if (after.getCreatedAt() != null) {
+                    Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                    stmt.setTimestamp(index++, createdAt);
+                    stmt.setTimestamp(index++, createdAt);
+                }
+                stmt.setLong(index++, after.getId());
+            }
+
+            stmt.setInt(index, limit + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(projection.map(rs));
+                }
+            }
         }
 
-        return task;
+        return tasks;
     }
 }
\ No newline at end of file
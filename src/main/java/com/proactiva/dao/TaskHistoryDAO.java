@@ -1,8 +1,10 @@
 package com.proactiva.dao;
 
 import com.proactiva.model.TaskHistory;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.io.IOException;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,10 +12,32 @@ import java.util.List;
 /**
  * Data Access Object para a entidade TaskHistory.
  * Implementa operações de histórico utilizando JDBC puro.
+ * Cada método público é medido no timer "proactiva.db.query" (tags class e method).
  */
 @ApplicationScoped
+@Timed(value = "proactiva.db.query", percentiles = {0.5, 0.95, 0.99})
 public class TaskHistoryDAO {
 
+    /**
+     * Colunas lidas nas consultas de histórico, na ordem esperada por {@link #HISTORY_MAPPER}.
+     */
+    static final String HISTORY_COLUMNS = "HISTORY_ID, TASK_ID, ACTION, OLD_STATUS, NEW_STATUS, DESCRIPTION, CHANGED_AT";
+
+    /**
+     * Mapeador posicional correspondente a {@link #HISTORY_COLUMNS}.
+     */
+    static final RowMapper<TaskHistory> HISTORY_MAPPER = rs -> {
+        TaskHistory history = new TaskHistory();
+        history.setId(rs.getLong(1));
+        history.setTaskId(rs.getLong(2));
+        history.setAction(rs.getString(3));
+        history.setOldStatus(rs.getString(4));
+        history.setNewStatus(rs.getString(5));
+        history.setDescription(rs.getString(6));
+        history.setChangedAt(RowMapper.getLocalDateTime(rs, 7));
+        return history;
+    };
+
     @Inject
     DatabaseConnection databaseConnection;
 
@@ -52,6 +76,53 @@ public class TaskHistoryDAO {
         return history;
     }
 
+    /**
+     * Cria vários registros de histórico em um único batch JDBC, em uma única transação.
+     *
+     * @param histories históricos a serem criados
+     * @throws SQLException se houver erro na operação (nenhum registro é gravado)
+     */
+    public void createBatch(List<TaskHistory> histories) throws SQLException {
+        try (Connection conn = databaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                createBatch(conn, histories);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Cria vários registros de histórico em um único batch JDBC, na conexão (e transação) do chamador.
+     *
+     * @param conn conexão da transação em andamento
+     * @param histories históricos a serem criados
+     * @throws SQLException se houver erro na operação
+     */
+    public void createBatch(Connection conn, List<TaskHistory> histories) throws SQLException {
+        String sql = "INSERT INTO TASK_HISTORY (TASK_ID, ACTION, OLD_STATUS, NEW_STATUS, DESCRIPTION, CHANGED_AT) " +
+                "VALUES (?, ?, ?, ?, ?, SYSTIMESTAMP)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            for (TaskHistory history : histories) {
+                stmt.setLong(1, history.getTaskId());
+                stmt.setString(2, history.getAction());
+                stmt.setString(3, history.getOldStatus());
+                stmt.setString(4, history.getNewStatus());
+                stmt.setString(5, history.getDescription());
+                stmt.addBatch();
+            }
+
+            stmt.executeBatch();
+        }
+    }
+
     /**
      * Lista todo o histórico de uma tarefa.
      *
@@ -60,7 +131,7 @@ public class TaskHistoryDAO {
      * @throws SQLException se houver erro na operação
      */
     public List<TaskHistory> findByTaskId(Long taskId) throws SQLException {
-        String sql = "SELECT * FROM TASK_HISTORY WHERE TASK_ID = ? ORDER BY CHANGED_AT DESC";
+        String sql = "SELECT " + HISTORY_COLUMNS + " FROM TASK_HISTORY WHERE TASK_ID = ? ORDER BY CHANGED_AT DESC";
         List<TaskHistory> histories = new ArrayList<>();
 
         try (Connection conn = databaseConnection.getConnection();
@@ -70,7 +141,7 @@ public class TaskHistoryDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    histories.add(mapResultSetToTaskHistory(rs));
+                    histories.add(HISTORY_MAPPER.map(rs));
                 }
             }
         }
@@ -85,7 +156,7 @@ public class TaskHistoryDAO {
      * @throws SQLException se houver erro na operação
      */
     public List<TaskHistory> findAll() throws SQLException {
-        String sql = "SELECT * FROM TASK_HISTORY ORDER BY CHANGED_AT DESC";
+        String sql = "SELECT " + HISTORY_COLUMNS + " FROM TASK_HISTORY ORDER BY CHANGED_AT DESC";
         List<TaskHistory> histories = new ArrayList<>();
 
         try (Connection conn = databaseConnection.getConnection();
@@ -93,7 +164,7 @@ public class TaskHistoryDAO {
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                histories.add(mapResultSetToTaskHistory(rs));
+                histories.add(HISTORY_MAPPER.map(rs));
             }
         }
 
@@ -101,26 +172,26 @@ public class TaskHistoryDAO {
     }
 
     /**
-     * Mapeia um ResultSet para um objeto TaskHistory.
+     * Percorre todo o histórico enviando cada linha ao handler assim que é lida,
+     * sem acumular o resultado em memória.
      *
-     * @param rs ResultSet contendo dados do histórico
-     * @return objeto TaskHistory
-     * @throws SQLException se houver erro ao ler dados
+     * @param handler callback chamado para cada registro de histórico
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se o handler falhar ao escrever a linha
      */
-    private TaskHistory mapResultSetToTaskHistory(ResultSet rs) throws SQLException {
-        TaskHistory history = new TaskHistory();
-        history.setId(rs.getLong("HISTORY_ID"));
-        history.setTaskId(rs.getLong("TASK_ID"));
-        history.setAction(rs.getString("ACTION"));
-        history.setOldStatus(rs.getString("OLD_STATUS"));
-        history.setNewStatus(rs.getString("NEW_STATUS"));
-        history.setDescription(rs.getString("DESCRIPTION"));
-
-        Timestamp changedAt = rs.getTimestamp("CHANGED_AT");
-        if (changedAt != null) {
-            history.setChangedAt(changedAt.toLocalDateTime());
-        }
+    public void streamAll(RowHandler<TaskHistory> handler) throws SQLException, IOException {
+        String sql = "SELECT " + HISTORY_COLUMNS + " FROM TASK_HISTORY ORDER BY CHANGED_AT DESC";
 
-        return history;
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(DatabaseConnection.STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(HISTORY_MAPPER.map(rs));
+                }
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.proactiva.dao;
+
+import com.proactiva.model.Task;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Projeção de campos de tarefa pedida com {@code ?fields=} nas listagens.
+ *
+ * A projeção define a lista de colunas do SELECT, para que colunas não pedidas (em especial o
+ * CLOB da descrição) nem sejam lidas do banco, e os campos incluídos no JSON de resposta.
+ * ID, CREATED_AT e UPDATED_AT são sempre lidos: são usados no cursor de paginação e na ETag.
+ *
+ * Sem {@code fields} as listagens usam o {@link #SUMMARY}: todos os campos menos a descrição,
+ * substituída por uma prévia calculada no banco. A descrição completa só é lida se pedida.
+ */
+public final class TaskProjection {
+
+    /**
+     * Campos de Task que podem ser pedidos, na ordem de {@link TaskDAO#TASK_COLUMNS} (com a prévia
+     * logo após a descrição).
+     */
+    enum Field {
+        ID("id", "ID", Task::getId, (task, rs, i) -> task.setId(rs.getLong(i))),
+        USER_ID("userId", "USER_ID", Task::getUserId, (task, rs, i) -> task.setUserId(rs.getLong(i))),
+        TITLE("title", "TITLE", Task::getTitle, (task, rs, i) -> task.setTitle(rs.getString(i))),
+        DESCRIPTION("description", "DESCRIPTION", Task::getDescription,
+                (task, rs, i) -> task.setDescription(rs.getString(i))),
+        DESCRIPTION_PREVIEW("descriptionPreview", TaskDAO.DESCRIPTION_PREVIEW, Task::getDescriptionPreview,
+                (task, rs, i) -> task.setDescriptionPreview(rs.getString(i))),
+        CATEGORY("category", "CATEGORY", Task::getCategory, (task, rs, i) -> task.setCategory(rs.getString(i))),
+        PRIORITY("priority", "PRIORITY", Task::getPriority, (task, rs, i) -> task.setPriority(rs.getString(i))),
+        STATUS("status", "STATUS", Task::getStatus, (task, rs, i) -> task.setStatus(rs.getString(i))),
+        DUE_DATE("dueDate", "DUE_DATE", Task::getDueDate,
+                (task, rs, i) -> task.setDueDate(RowMapper.getLocalDateTime(rs, i))),
+        COMPLETED_AT("completedAt", "COMPLETED_AT", Task::getCompletedAt,
+                (task, rs, i) -> task.setCompletedAt(RowMapper.getLocalDateTime(rs, i))),
+        CREATED_AT("createdAt", "CREATED_AT", Task::getCreatedAt,
+                (task, rs, i) -> task.setCreatedAt(RowMapper.getLocalDateTime(rs, i))),
+        UPDATED_AT("updatedAt", "UPDATED_AT", Task::getUpdatedAt,
+                (task, rs, i) -> task.setUpdatedAt(RowMapper.getLocalDateTime(rs, i)));
+
+        final String jsonName;
+        final String column;
+        final Function<Task, Object> getter;
+        final ColumnReader reader;
+
+        Field(String jsonName, String column, Function<Task, Object> getter, ColumnReader reader) {
+            this.jsonName = jsonName;
+            this.column = column;
+            this.getter = getter;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * Lê uma coluna da linha atual para o campo correspondente da tarefa.
+     */
+    @FunctionalInterface
+    interface ColumnReader {
+        void read(Task task, ResultSet rs, int index) throws SQLException;
+    }
+
+    private static final Set<Field> ALWAYS_SELECTED = EnumSet.of(Field.ID, Field.CREATED_AT, Field.UPDATED_AT);
+
+    /**
+     * Projeção padrão das listagens: todos os campos, com a prévia no lugar da descrição. Usa
+     * {@link TaskDAO#SUMMARY_COLUMNS} e {@link TaskDAO#SUMMARY_MAPPER}.
+     */
+    public static final TaskProjection SUMMARY =
+            new TaskProjection(EnumSet.complementOf(EnumSet.of(Field.DESCRIPTION)));
+
+    private final Set<Field> requested;
+    private final List<Field> selected;
+    private final String columns;
+
+    private TaskProjection(Set<Field> requested) {
+        this.requested = requested;
+
+        EnumSet<Field> selected = EnumSet.copyOf(requested);
+        selected.addAll(ALWAYS_SELECTED);
+        this.selected = List.copyOf(selected);
+        this.columns = this.selected.stream().map(field -> field.column).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Interpreta o parâmetro {@code fields}.
+     *
+     * @param fields nomes dos campos JSON separados por vírgula (null ou vazio para {@link #SUMMARY})
+     * @return projeção correspondente
+     * @throws IllegalArgumentException se algum campo não existir
+     */
+    public static TaskProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return SUMMARY;
+        }
+
+        Set<Field> requested = EnumSet.noneOf(Field.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            requested.add(fieldNamed(trimmed));
+        }
+        if (requested.isEmpty() || requested.equals(SUMMARY.requested)) {
+            return SUMMARY;
+        }
+        return new TaskProjection(requested);
+    }
+
+    /**
+     * Indica se é a projeção padrão, em que as tarefas são serializadas sem conversão.
+     */
+    public boolean isSummary() {
+        return this == SUMMARY;
+    }
+
+    /**
+     * Indica se a descrição completa (o CLOB) foi pedida.
+     */
+    public boolean includesDescription() {
+        return requested.contains(Field.DESCRIPTION);
+    }
+
+    /**
+     * Lista de colunas para o SELECT.
+     */
+    String columns() {
+        return isSummary() ? TaskDAO.SUMMARY_COLUMNS : columns;
+    }
+
+    /**
+     * Mapeia a linha atual, lida com {@link #columns()}; campos não selecionados ficam null.
+     */
+    Task map(ResultSet rs) throws SQLException {
+        if (isSummary()) {
+            return TaskDAO.SUMMARY_MAPPER.map(rs);
+        }
+        Task task = new Task();
+        int index = 1;
+        for (Field field : selected) {
+            field.reader.read(task, rs, index++);
+        }
+        return task;
+    }
+
+    /**
+     * Representação JSON de uma tarefa com apenas os campos pedidos.
+     *
+     * @param task tarefa (completa ou lida com esta projeção)
+     * @return mapa campo → valor, na ordem dos campos de Task
+     */
+    public Map<String, Object> view(Task task) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (Field field : requested) {
+            view.put(field.jsonName, field.getter.apply(task));
+        }
+        return view;
+    }
+
+    /**
+     * Representação JSON de uma lista de tarefas com apenas os campos pedidos.
+     *
+     * @param tasks tarefas
+     * @return lista de mapas campo → valor
+     */
+    public List<Map<String, Object>> view(List<Task> tasks) {
+        List<Map<String, Object>> views = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            views.add(view(task));
+        }
+        return views;
+    }
+
+    private static Field fieldNamed(String name) {
+        for (Field field : Field.values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Campo inválido em fields: " + name);
+    }
+}
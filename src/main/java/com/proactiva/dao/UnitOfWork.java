@@ -0,0 +1,136 @@
+package com.proactiva.dao;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Unidade de trabalho: executa uma operação de negócio inteira com uma única conexão e uma
+ * única transação.
+ *
+ * Durante a execução, todas as chamadas dos DAOs a {@link DatabaseConnection#getConnection()}
+ * na mesma thread reutilizam a conexão da unidade. Ao final é feito um único commit; qualquer
+ * exceção ou erro provoca rollback. Unidades aninhadas participam da unidade externa, inclusive
+ * nas ações registradas para depois do commit ou do fim da unidade.
+ */
+@ApplicationScoped
+public class UnitOfWork {
+
+    private static final Logger LOG = Logger.getLogger(UnitOfWork.class);
+
+    /**
+     * Operação executada dentro da unidade de trabalho.
+     *
+     * @param <T> tipo do resultado
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T execute() throws SQLException;
+    }
+
+    @Inject
+    DatabaseConnection databaseConnection;
+
+    /**
+     * Executa a operação em uma transação, ou na transação já ativa na thread.
+     *
+     * @param work operação a ser executada
+     * @return resultado da operação
+     * @throws SQLException se houver erro no banco (a transação é desfeita)
+     */
+    public <T> T execute(Work<T> work) throws SQLException {
+        if (databaseConnection.currentTransaction() != null) {
+            return work.execute();
+        }
+
+        Connection conn = databaseConnection.acquire();
+        DatabaseConnection.Transaction transaction = new DatabaseConnection.Transaction(conn);
+        T result;
+        try {
+            try {
+                conn.setAutoCommit(false);
+                databaseConnection.bind(transaction);
+
+                result = work.execute();
+                conn.commit();
+            } catch (Throwable e) {
+                // Inclusive Error: restaurar o auto-commit sem rollback confirmaria a transação pela metade
+                rollback(conn, e);
+                throw e;
+            } finally {
+                databaseConnection.unbind();
+                restoreAndClose(conn);
+            }
+
+            runAfterCommit(transaction);
+        } finally {
+            runActions(transaction.afterCompletion);
+        }
+        return result;
+    }
+
+    /**
+     * Registra uma ação a ser executada somente após o commit da unidade de trabalho ativa
+     * (invalidação de cache, histórico, eventos). Sem unidade ativa, a ação é executada na hora.
+     *
+     * @param action ação a ser executada
+     */
+    public void afterCommit(Runnable action) {
+        DatabaseConnection.Transaction transaction = databaseConnection.currentTransaction();
+        if (transaction == null) {
+            action.run();
+        } else {
+            transaction.afterCommit.add(action);
+        }
+    }
+
+    /**
+     * Registra uma ação a ser executada ao final da unidade de trabalho ativa, com commit ou
+     * rollback, depois das ações pós-commit. Sem unidade ativa, a ação é executada na hora.
+     *
+     * @param action ação a ser executada
+     */
+    public void afterCompletion(Runnable action) {
+        DatabaseConnection.Transaction transaction = databaseConnection.currentTransaction();
+        if (transaction == null) {
+            action.run();
+        } else {
+            transaction.afterCompletion.add(action);
+        }
+    }
+
+    private void runAfterCommit(DatabaseConnection.Transaction transaction) {
+        runActions(transaction.afterCommit);
+    }
+
+    private void runActions(List<Runnable> actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                // A transação já terminou; uma falha aqui não pode desfazer a operação
+                LOG.error("Erro em ação executada após a transação", e);
+            }
+        }
+    }
+
+    private void rollback(Connection conn, Throwable cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void restoreAndClose(Connection conn) {
+        try {
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            LOG.warn("Erro ao restaurar auto-commit", e);
+        }
+        databaseConnection.closeConnection(conn);
+    }
+}
@@ -1,8 +1,11 @@
 package com.proactiva.dao;
 
+import com.proactiva.dto.ResourceVersion;
 import com.proactiva.model.User;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.io.IOException;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,10 +14,47 @@ import java.util.Optional;
 /**
  * Data Access Object para a entidade User.
  * Implementa operações CRUD utilizando JDBC puro.
+ * Cada método público é medido no timer "proactiva.db.query" (tags class e method).
  */
 @ApplicationScoped
+@Timed(value = "proactiva.db.query", percentiles = {0.5, 0.95, 0.99})
 public class UserDAO {
 
+    /**
+     * Colunas públicas do usuário (sem a senha), na ordem esperada por {@link #USER_MAPPER}.
+     */
+    static final String USER_COLUMNS = "ID, USERNAME, EMAIL, FIRST_NAME, LAST_NAME, CREATED_AT, UPDATED_AT";
+
+    /**
+     * Colunas do usuário incluindo o hash da senha (por último), usadas apenas onde a senha
+     * é necessária: autenticação e atualização.
+     */
+    static final String USER_WITH_PASSWORD_COLUMNS = USER_COLUMNS + ", PASSWORD";
+
+    /**
+     * Mapeador posicional correspondente a {@link #USER_COLUMNS}.
+     */
+    static final RowMapper<User> USER_MAPPER = rs -> {
+        User user = new User();
+        user.setId(rs.getLong(1));
+        user.setUsername(rs.getString(2));
+        user.setEmail(rs.getString(3));
+        user.setFirstName(rs.getString(4));
+        user.setLastName(rs.getString(5));
+        user.setCreatedAt(RowMapper.getLocalDateTime(rs, 6));
+        user.setUpdatedAt(RowMapper.getLocalDateTime(rs, 7));
+        return user;
+    };
+
+    /**
+     * Mapeador posicional correspondente a {@link #USER_WITH_PASSWORD_COLUMNS}.
+     */
+    static final RowMapper<User> USER_WITH_PASSWORD_MAPPER = rs -> {
+        User user = USER_MAPPER.map(rs);
+        user.setPassword(rs.getString(8));
+        return user;
+    };
+
     @Inject
     DatabaseConnection databaseConnection;
 
@@ -47,12 +87,17 @@ public class UserDAO {
                 throw new SQLException("Falha ao criar usuário, nenhuma linha afetada.");
             }
 
-            // CORREÇÃO: Busca o usuário recém-criado para obter o ID gerado pelo Trigger/Sequence
-            Optional<User> createdUser = findByUsername(user.getUsername());
-            if (createdUser.isPresent()) {
-                user.setId(createdUser.get().getId());
-            } else {
-                throw new SQLException("Falha ao recuperar usuário recém-criado.");
+            // CORREÇÃO: Busca o ID gerado pelo Trigger/Sequence na mesma conexão,
+            // lendo apenas a coluna ID
+            try (PreparedStatement idStmt = conn.prepareStatement("SELECT ID FROM USERS WHERE USERNAME = ?")) {
+                idStmt.setString(1, user.getUsername());
+                try (ResultSet rs = idStmt.executeQuery()) {
+                    if (rs.next()) {
+                        user.setId(rs.getLong(1));
+                    } else {
+                        throw new SQLException("Falha ao recuperar usuário recém-criado.");
+                    }
+                }
             }
         }
 
@@ -68,7 +113,32 @@ public class UserDAO {
      */
     public Optional<User> findById(Long id) throws SQLException {
         // CORREÇÃO: Usando "user_id" na cláusula WHERE
-        String sql = "SELECT * FROM USERS WHERE ID = ?";
+        String sql = "SELECT " + USER_WITH_PASSWORD_COLUMNS + " FROM USERS WHERE ID = ?";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(USER_WITH_PASSWORD_MAPPER.map(rs));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Busca apenas a versão (ID e UPDATED_AT) de um usuário.
+     *
+     * @param id ID do usuário
+     * @return Optional contendo a versão se o usuário existir
+     * @throws SQLException se houver erro na operação
+     */
+    public Optional<ResourceVersion> findVersion(Long id) throws SQLException {
+        String sql = "SELECT UPDATED_AT FROM USERS WHERE ID = ?";
 
         try (Connection conn = databaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -77,7 +147,33 @@ public class UserDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(mapResultSetToUser(rs));
+                    return Optional.of(new ResourceVersion(1, id, RowMapper.getLocalDateTime(rs, 1)));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Busca um usuário por ID bloqueando a linha até o fim da transação (SELECT ... FOR UPDATE).
+     * Deve ser usado dentro de uma {@link UnitOfWork}.
+     *
+     * @param id ID do usuário
+     * @return Optional contendo o usuário se encontrado
+     * @throws SQLException se houver erro na operação
+     */
+    public Optional<User> findByIdForUpdate(Long id) throws SQLException {
+        String sql = "SELECT " + USER_WITH_PASSWORD_COLUMNS + " FROM USERS WHERE ID = ? FOR UPDATE";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(USER_WITH_PASSWORD_MAPPER.map(rs));
                 }
             }
         }
@@ -93,7 +189,7 @@ public class UserDAO {
      * @throws SQLException se houver erro na operação
      */
     public Optional<User> findByUsername(String username) throws SQLException {
-        String sql = "SELECT * FROM USERS WHERE USERNAME = ?";
+        String sql = "SELECT " + USER_WITH_PASSWORD_COLUMNS + " FROM USERS WHERE USERNAME = ?";
 
         try (Connection conn = databaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -102,7 +198,7 @@ public class UserDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(mapResultSetToUser(rs));
+                    return Optional.of(USER_WITH_PASSWORD_MAPPER.map(rs));
                 }
             }
         }
@@ -118,7 +214,7 @@ public class UserDAO {
      * @throws SQLException se houver erro na operação
      */
     public Optional<User> findByEmail(String email) throws SQLException {
-        String sql = "SELECT * FROM USERS WHERE EMAIL = ?";
+        String sql = "SELECT " + USER_COLUMNS + " FROM USERS WHERE EMAIL = ?";
 
         try (Connection conn = databaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -127,7 +223,7 @@ public class UserDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(mapResultSetToUser(rs));
+                    return Optional.of(USER_MAPPER.map(rs));
                 }
             }
         }
@@ -142,7 +238,7 @@ public class UserDAO {
      * @throws SQLException se houver erro na operação
      */
     public List<User> findAll() throws SQLException {
-        String sql = "SELECT * FROM USERS ORDER BY CREATED_AT DESC";
+        String sql = "SELECT " + USER_COLUMNS + " FROM USERS ORDER BY CREATED_AT DESC";
         List<User> users = new ArrayList<>();
 
         try (Connection conn = databaseConnection.getConnection();
@@ -150,13 +246,38 @@ public class UserDAO {
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                users.add(mapResultSetToUser(rs));
+                users.add(USER_MAPPER.map(rs));
             }
         }
 
         return users;
     }
 
+    /**
+     * Percorre ID, username e email de todos os usuários (usado para carregar o cache negativo).
+     *
+     * @param handler callback chamado para cada usuário, com apenas ID, username e email preenchidos
+     * @throws SQLException se houver erro na operação
+     * @throws IOException se o handler falhar
+     */
+    public void streamIdentities(RowHandler<User> handler) throws SQLException, IOException {
+        String sql = "SELECT ID, USERNAME, EMAIL FROM USERS";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(DatabaseConnection.STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    User user = new User(rs.getString(2), rs.getString(3), null);
+                    user.setId(rs.getLong(1));
+                    handler.handle(user);
+                }
+            }
+        }
+    }
+
     /**
      * Atualiza um usuário existente.
      *
@@ -187,6 +308,25 @@ public class UserDAO {
         return user;
     }
 
+    /**
+     * Atualiza apenas o hash da senha de um usuário.
+     *
+     * @param id ID do usuário
+     * @param passwordHash novo hash da senha
+     * @throws SQLException se houver erro na operação
+     */
+    public void updatePassword(Long id, String passwordHash) throws SQLException {
+        String sql = "UPDATE USERS SET PASSWORD = ?, UPDATED_AT = SYSTIMESTAMP WHERE ID = ?";
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, passwordHash);
+            stmt.setLong(2, id);
+            stmt.executeUpdate();
+        }
+    }
+
     /**
      * Deleta um usuário por ID.
      *
@@ -207,36 +347,4 @@ public class UserDAO {
             return affectedRows > 0;
         }
     }
-
-    /**
-     * Mapeia um ResultSet para um objeto User.
-     *
-     * @param rs ResultSet contendo dados do usuário
-     * @return objeto User
-     * @throws SQLException se houver erro ao ler dados
-     */
-    private User mapResultSetToUser(ResultSet rs) throws SQLException {
-        User user = new User();
-        // CORREÇÃO: Usando "user_id" para obter o ID
-        user.setId(rs.getLong("ID"));
-        user.setUsername(rs.getString("USERNAME"));
-        user.setEmail(rs.getString("EMAIL"));
-        user.setPassword(rs.getString("PASSWORD"));
-
-        // Mapeando first_name e last_name
-        user.setFirstName(rs.getString("FIRST_NAME"));
-        user.setLastName(rs.getString("LAST_NAME"));
-
-        Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-        if (createdAt != null) {
-            user.setCreatedAt(createdAt.toLocalDateTime());
-        }
-
-        Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-        if (updatedAt != null) {
-            user.setUpdatedAt(updatedAt.toLocalDateTime());
-        }
-
-        return user;
-    }
 }
\ No newline at end of file
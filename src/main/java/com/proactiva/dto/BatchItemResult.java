@@ -0,0 +1,66 @@
+package com.proactiva.dto;
+
+import com.proactiva.model.Task;
+
+/**
+ * DTO com o resultado de um item de uma requisição em lote.
+ */
+public class BatchItemResult {
+
+    private int index;
+    private int status;
+    private Task task;
+    private String error;
+
+    // Construtores
+    public BatchItemResult() {
+    }
+
+    public BatchItemResult(int index, int status, Task task, String error) {
+        this.index = index;
+        this.status = status;
+        this.task = task;
+        this.error = error;
+    }
+
+    public static BatchItemResult created(int index, Task task) {
+        return new BatchItemResult(index, 201, task, null);
+    }
+
+    public static BatchItemResult rejected(int index, String error) {
+        return new BatchItemResult(index, 400, null, error);
+    }
+
+    // Getters e Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
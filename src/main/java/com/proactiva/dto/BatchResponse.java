@@ -0,0 +1,48 @@
+package com.proactiva.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta de operações em lote, com o resultado de cada item.
+ */
+public class BatchResponse {
+
+    private int created;
+    private int failed;
+    private List<BatchItemResult> items;
+
+    // Construtores
+    public BatchResponse() {
+    }
+
+    public BatchResponse(List<BatchItemResult> items) {
+        this.items = items;
+        this.created = (int) items.stream().filter(item -> item.getStatus() == 201).count();
+        this.failed = items.size() - created;
+    }
+
+    // Getters e Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchItemResult> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,74 @@
+package com.proactiva.dto;
+
+import com.proactiva.model.Task;
+import com.proactiva.model.User;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Versão de um recurso ou de uma lista de recursos, usada como ETag fraca nas leituras.
+ *
+ * Derivada apenas de ID e UPDATED_AT, para que possa ser obtida do banco sem carregar as linhas
+ * completas (ver {@code findVersion} nos DAOs). Para listas, a quantidade e a soma dos IDs mudam
+ * quando uma tarefa entra ou sai da lista, e o maior UPDATED_AT muda quando alguma é alterada.
+ */
+public class ResourceVersion {
+
+    private final long count;
+    private final long idSum;
+    private final LocalDateTime lastModified;
+
+    public ResourceVersion(long count, long idSum, LocalDateTime lastModified) {
+        this.count = count;
+        this.idSum = idSum;
+        this.lastModified = lastModified;
+    }
+
+    public static ResourceVersion of(Task task) {
+        return new ResourceVersion(1, task.getId(), task.getUpdatedAt());
+    }
+
+    public static ResourceVersion of(User user) {
+        return new ResourceVersion(1, user.getId(), user.getUpdatedAt());
+    }
+
+    public static ResourceVersion ofTasks(List<Task> tasks) {
+        long idSum = 0;
+        LocalDateTime lastModified = null;
+        for (Task task : tasks) {
+            idSum += task.getId();
+            LocalDateTime updatedAt = task.getUpdatedAt();
+            if (updatedAt != null && (lastModified == null || updatedAt.isAfter(lastModified))) {
+                lastModified = updatedAt;
+            }
+        }
+        return new ResourceVersion(tasks.size(), idSum, lastModified);
+    }
+
+    /**
+     * Valor opaco da ETag (sem aspas e sem o prefixo W/).
+     *
+     * @return "quantidade-somaDosIds-ultimaAlteracao", com a data em microssegundos desde a época
+     */
+    public String tag() {
+        long micros = 0;
+        if (lastModified != null) {
+            micros = lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        }
+        return Long.toString(count, 36) + "-" + Long.toString(idSum, 36) + "-" + Long.toString(micros, 36);
+    }
+
+    // Getters
+    public long getCount() {
+        return count;
+    }
+
+    public long getIdSum() {
+        return idSum;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,44 @@
+package com.proactiva.dto;
+
+import com.proactiva.model.Task;
+
+/**
+ * Evento do feed de alterações de tarefas: o tipo de alteração e a tarefa como ficou
+ * (sem a descrição completa). Em exclusões, a tarefa como estava antes de ser excluída.
+ */
+public class TaskChangeEvent {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String DELETED = "DELETED";
+
+    private String type;
+    private Task task;
+
+    // Construtores
+    public TaskChangeEvent() {
+    }
+
+    public TaskChangeEvent(String type, Task task) {
+        this.type = type;
+        this.task = task;
+    }
+
+    // Getters e Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+    }
+}
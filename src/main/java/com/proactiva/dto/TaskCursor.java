@@ -0,0 +1,68 @@
+package com.proactiva.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação por chave (keyset) para listagens de tarefas.
+ * Representa a posição (CREATED_AT, ID) da última tarefa retornada em uma página,
+ * seguindo a ordenação CREATED_AT DESC, ID DESC.
+ *
+ * CREATED_AT pode ser nulo (linhas gravadas fora da API); no Oracle elas vêm primeiro na
+ * ordenação decrescente, e o token leva a data vazia.
+ */
+public class TaskCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public TaskCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Converte o cursor em um token opaco para ser enviado ao cliente.
+     *
+     * @return token no formato Base64 URL-safe de "createdAt,id" (createdAt vazio se for nulo)
+     */
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Interpreta um token recebido no parâmetro "after".
+     *
+     * @param token token gerado por {@link #encode()}
+     * @return cursor correspondente
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(',');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            String date = raw.substring(0, separator);
+            // "null" é o formato dos tokens emitidos antes da data vazia
+            LocalDateTime createdAt = date.isEmpty() || date.equals("null") ? null : LocalDateTime.parse(date);
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new TaskCursor(createdAt, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    // Getters
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,42 @@
+package com.proactiva.dto;
+
+import com.proactiva.model.Task;
+
+/**
+ * Evento de prazo de uma tarefa: entrou na janela de "vence em breve" ou ficou atrasada.
+ * A tarefa vem sem a descrição completa.
+ */
+public class TaskDueEvent {
+
+    public static final String DUE_SOON = "DUE_SOON";
+    public static final String OVERDUE = "OVERDUE";
+
+    private String type;
+    private Task task;
+
+    // Construtores
+    public TaskDueEvent() {
+    }
+
+    public TaskDueEvent(String type, Task task) {
+        this.type = type;
+        this.task = task;
+    }
+
+    // Getters e Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+    }
+}
@@ -0,0 +1,38 @@
+package com.proactiva.dto;
+
+import com.proactiva.model.Task;
+
+/**
+ * DTO de um resultado da busca de tarefas: a tarefa (sem a descrição completa) e sua relevância.
+ */
+public class TaskSearchResult {
+
+    private double score;
+    private Task task;
+
+    // Construtores
+    public TaskSearchResult() {
+    }
+
+    public TaskSearchResult(double score, Task task) {
+        this.score = score;
+        this.task = task;
+    }
+
+    // Getters e Setters
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+    }
+}
@@ -0,0 +1,60 @@
+package com.proactiva.dto;
+
+import java.util.Map;
+
+/**
+ * DTO com as contagens de tarefas de um usuário, usadas no painel: total, por status,
+ * por categoria e por prioridade.
+ */
+public class TaskStats {
+
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byCategory;
+    private Map<String, Long> byPriority;
+
+    // Construtores
+    public TaskStats() {
+    }
+
+    public TaskStats(long total, Map<String, Long> byStatus, Map<String, Long> byCategory,
+                     Map<String, Long> byPriority) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byCategory = byCategory;
+        this.byPriority = byPriority;
+    }
+
+    // Getters e Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<String, Long> getByCategory() {
+        return byCategory;
+    }
+
+    public void setByCategory(Map<String, Long> byCategory) {
+        this.byCategory = byCategory;
+    }
+
+    public Map<String, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<String, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+}
@@ -1,6 +1,8 @@
 package com.proactiva.exception;
 
 import com.proactiva.dto.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.ws.rs.core.Response;
@@ -10,12 +12,24 @@ import java.util.stream.Collectors;
 
 /**
  * Mapeador global de exceções para tratamento centralizado de erros.
+ * Cada exceção mapeada é contada em "proactiva.http.exceptions" (tags exception e status).
  */
 @Provider
 public class GlobalExceptionMapper implements ExceptionMapper<Exception> {
 
+    @Inject
+    MeterRegistry registry;
+
     @Override
     public Response toResponse(Exception exception) {
+        Response response = map(exception);
+        registry.counter("proactiva.http.exceptions",
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(response.getStatus())).increment();
+        return response;
+    }
+
+    private Response map(Exception exception) {
         
         // Tratamento de exceções de validação
         if (exception instanceof ConstraintViolationException) {
@@ -37,6 +51,14 @@ public class GlobalExceptionMapper implements ExceptionMapper<Exception> {
                     .build();
         }
         
+        // Tratamento de recursos saturados (pool de autenticação)
+        if (exception instanceof ServiceBusyException) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", ((ServiceBusyException) exception).getRetryAfterSeconds())
+                    .entity(new ErrorResponse("Service Unavailable", exception.getMessage(), 503))
+                    .build();
+        }
+        
         // Tratamento genérico de exceções
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                 .entity(new ErrorResponse("Internal Server Error", 
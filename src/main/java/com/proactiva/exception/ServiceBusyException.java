@@ -0,0 +1,19 @@
+package com.proactiva.exception;
+
+/**
+ * Lançada quando um recurso limitado (pool de autenticação, conexões) está saturado.
+ * É convertida em 503 Service Unavailable com o cabeçalho Retry-After.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,48 @@
+package com.proactiva.filter;
+
+import com.proactiva.dao.DatabaseConnection;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import java.io.IOException;
+
+/**
+ * Filtro que mede quantas conexões do pool cada requisição obtém.
+ * Publicado como "proactiva.db.connections.per.request", por método HTTP.
+ */
+@Provider
+public class ConnectionUsageFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Inject
+    DatabaseConnection databaseConnection;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        databaseConnection.startRequestTracking();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext,
+                       ContainerResponseContext responseContext) throws IOException {
+
+        int checkouts = databaseConnection.stopRequestTracking();
+        if (checkouts < 0) {
+            return;
+        }
+
+        DistributionSummary.builder("proactiva.db.connections.per.request")
+                .description("Conexões obtidas do pool por requisição")
+                .tag("method", requestContext.getMethod())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(checkouts);
+    }
+}
@@ -0,0 +1,58 @@
+package com.proactiva.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+/**
+ * Filtro que conta as respostas 4xx e 5xx por endpoint e status, inclusive as montadas pelo
+ * {@link com.proactiva.exception.GlobalExceptionMapper}.
+ * Publicado como "proactiva.http.errors" (tags endpoint, status e family).
+ */
+@Provider
+public class ErrorMetricsFilter implements ContainerResponseFilter {
+
+    @Inject
+    MeterRegistry registry;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext,
+                       ContainerResponseContext responseContext) throws IOException {
+
+        int status = responseContext.getStatus();
+        if (status < 400) {
+            return;
+        }
+
+        Counter.builder("proactiva.http.errors")
+                .description("Respostas de erro por endpoint")
+                .tag("endpoint", endpoint())
+                .tag("status", String.valueOf(status))
+                .tag("family", status < 500 ? "4xx" : "5xx")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Classe e método do resource que atendeu a requisição; rotas inexistentes viram "unmatched"
+     * para não criar uma série por URL.
+     */
+    private String endpoint() {
+        Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+        if (method == null) {
+            return "unmatched";
+        }
+        return resourceInfo.getResourceClass().getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,17 @@
+package com.proactiva.interceptor;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limita a quantidade de execuções simultâneas dos métodos anotados ao tamanho do pool de
+ * conexões (ver {@link ConcurrencyLimiterInterceptor}).
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+}
@@ -0,0 +1,106 @@
+package com.proactiva.interceptor;
+
+import com.proactiva.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de concorrência baseado em semáforo para os endpoints com JDBC bloqueante.
+ *
+ * Com virtual threads não há mais o teto do pool de workers: sem um limite, milhares de
+ * requisições ficariam presas esperando uma conexão do pool do datasource. O número de
+ * permissões acompanha o tamanho do pool ({@code quarkus.datasource.jdbc.max-size}); quem
+ * não obtiver permissão dentro do timeout recebe 503 com Retry-After.
+ *
+ * Os endpoints de streaming leem o banco depois que o método retorna e, por isso, só têm
+ * a parte anterior ao streaming limitada.
+ */
+@ConcurrencyLimited
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class ConcurrencyLimiterInterceptor {
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.limiter.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "proactiva.limiter.max-concurrency", defaultValue = "20")
+    int maxConcurrency;
+
+    @ConfigProperty(name = "proactiva.limiter.acquire-timeout", defaultValue = "2s")
+    Duration acquireTimeout;
+
+    @ConfigProperty(name = "proactiva.limiter.retry-after", defaultValue = "1")
+    long retryAfterSeconds;
+
+    private volatile Semaphore permits;
+    private Timer waitTimer;
+    private Counter rejectedCounter;
+
+    @AroundInvoke
+    Object limit(InvocationContext context) throws Exception {
+        if (!enabled) {
+            return context.proceed();
+        }
+
+        Semaphore semaphore = permits();
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException("Servidor ocupado, tente novamente", retryAfterSeconds);
+        }
+
+        try {
+            return context.proceed();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private Semaphore permits() {
+        Semaphore semaphore = permits;
+        if (semaphore == null) {
+            synchronized (this) {
+                semaphore = permits;
+                if (semaphore == null) {
+                    semaphore = new Semaphore(maxConcurrency, true);
+                    Gauge.builder("proactiva.limiter.available", semaphore, Semaphore::availablePermits)
+                            .description("Permissões livres no limitador de concorrência")
+                            .register(registry);
+                    Gauge.builder("proactiva.limiter.waiting", semaphore, Semaphore::getQueueLength)
+                            .description("Requisições aguardando permissão no limitador")
+                            .register(registry);
+                    waitTimer = Timer.builder("proactiva.limiter.wait")
+                            .description("Tempo de espera por uma permissão do limitador")
+                            .publishPercentiles(0.5, 0.95, 0.99)
+                            .register(registry);
+                    rejectedCounter = registry.counter("proactiva.limiter.rejected");
+                    permits = semaphore;
+                }
+            }
+        }
+        return semaphore;
+    }
+}
@@ -0,0 +1,65 @@
+package com.proactiva.interceptor;
+
+import com.proactiva.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Limitador de concorrência para os endpoints reativos.
+ *
+ * O {@link ConcurrencyLimiterInterceptor} não serve aqui: ele libera a permissão quando o método
+ * retorna, antes de o Uni executar a consulta, e espera a permissão bloqueando a thread, o que não
+ * é permitido no event loop. Este limitador só reserva a permissão quando o Uni é assinado, a
+ * devolve quando ele termina (item, falha ou cancelamento) e, sem permissão livre, falha na hora
+ * com {@link ServiceBusyException} (503 com Retry-After) em vez de esperar.
+ */
+@ApplicationScoped
+public class ReactiveConcurrencyLimiter {
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.limiter.reactive.max-concurrency", defaultValue = "20")
+    int maxConcurrency;
+
+    @ConfigProperty(name = "proactiva.limiter.retry-after", defaultValue = "1")
+    long retryAfterSeconds;
+
+    private Semaphore permits;
+    private Counter rejectedCounter;
+
+    void onStart(@Observes StartupEvent event) {
+        permits = new Semaphore(maxConcurrency);
+        Gauge.builder("proactiva.limiter.reactive.available", permits, Semaphore::availablePermits)
+                .description("Permissões livres no limitador dos endpoints reativos")
+                .register(registry);
+        rejectedCounter = registry.counter("proactiva.limiter.reactive.rejected");
+    }
+
+    /**
+     * Executa a operação se houver permissão livre no momento da assinatura.
+     *
+     * @param operation fornece o Uni a executar; só é chamado com a permissão reservada
+     * @return Uni da operação, ou falha com {@link ServiceBusyException} se o limite foi atingido
+     */
+    public <T> Uni<T> limit(Supplier<Uni<? extends T>> operation) {
+        return Uni.createFrom().deferred(() -> {
+            if (!permits.tryAcquire()) {
+                rejectedCounter.increment();
+                return Uni.createFrom().failure(
+                        new ServiceBusyException("Servidor ocupado, tente novamente", retryAfterSeconds));
+            }
+            return Uni.createFrom().<T>deferred(operation)
+                    .onTermination().invoke(permits::release);
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.proactiva.logging;
+
+import io.quarkus.logging.LoggingFilter;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Filtro de log que amostra, por categoria, os registros de nível INFO ou inferior.
+ * WARN e ERROR sempre passam.
+ *
+ * As taxas vêm de {@code proactiva.log.sampling.rates}, no formato
+ * {@code categoria=taxa,categoria=taxa}; vale a categoria de prefixo mais longo, e categorias sem
+ * taxa não são amostradas. Ativado no console com {@code quarkus.log.console.filter=proactiva-sampling}.
+ */
+@LoggingFilter(name = "proactiva-sampling")
+public final class SamplingLogFilter implements Filter {
+
+    private static final double KEEP_ALL = 1.0;
+
+    private final Map<String, Double> rates;
+    private final Map<String, Double> rateByLogger = new ConcurrentHashMap<>();
+
+    public SamplingLogFilter(
+            @ConfigProperty(name = "proactiva.log.sampling.rates", defaultValue = "com.proactiva=1.0") String rates) {
+        this.rates = parse(rates);
+    }
+
+    @Override
+    public boolean isLoggable(LogRecord record) {
+        if (record.getLevel().intValue() > Level.INFO.intValue()) {
+            return true;
+        }
+        String loggerName = record.getLoggerName() != null ? record.getLoggerName() : "";
+        double rate = rateByLogger.computeIfAbsent(loggerName, this::rateFor);
+        return rate >= KEEP_ALL || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Taxa da categoria de prefixo mais longo que contém o logger.
+     */
+    private double rateFor(String loggerName) {
+        String category = loggerName;
+        while (true) {
+            Double rate = rates.get(category);
+            if (rate != null) {
+                return rate;
+            }
+            int dot = category.lastIndexOf('.');
+            if (dot < 0) {
+                return KEEP_ALL;
+            }
+            category = category.substring(0, dot);
+        }
+    }
+
+    private static Map<String, Double> parse(String value) {
+        Map<String, Double> rates = new HashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            double rate = Double.parseDouble(entry.substring(separator + 1).trim());
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Taxa de amostragem inválida para " + entry);
+            }
+            rates.put(entry.substring(0, separator).trim(), rate);
+        }
+        return Map.copyOf(rates);
+    }
+}
@@ -1,5 +1,7 @@
 package com.proactiva.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -11,6 +13,12 @@ import java.util.Objects;
 @Table(name = "tasks")
 public class Task {
 
+    /**
+     * Caracteres da descrição incluídos em {@link #toString()}; o restante do CLOB é omitido
+     * para não gerar strings grandes nos logs.
+     */
+    private static final int TO_STRING_DESCRIPTION_LENGTH = 64;
+
     @Id
     @Column(name = "task_id") // CORREÇÃO: Mapeando para task_id do banco
     private Long id;
@@ -24,9 +32,18 @@ public class Task {
     @Column(name = "title", nullable = false, length = 255)
     private String title;
 
+    // Omitida nas listagens, que trazem só a prévia; a descrição completa vem de GET /api/tasks/{id}
+    // ou GET /api/tasks/{id}/description
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Column(name = "description", columnDefinition = "CLOB")
     private String description;
 
+    // Início da descrição, calculado no SELECT das listagens; não é persistido
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Transient
+    private String descriptionPreview;
+
     @NotBlank(message = "Categoria é obrigatória")
     @Column(name = "category", nullable = false, length = 50)
     private String category;
@@ -111,6 +128,14 @@ public class Task {
         this.description = description;
     }
 
+    public String getDescriptionPreview() {
+        return descriptionPreview;
+    }
+
+    public void setDescriptionPreview(String descriptionPreview) {
+        this.descriptionPreview = descriptionPreview;
+    }
+
     public String getCategory() {
         return category;
     }
@@ -188,7 +213,7 @@ public class Task {
                 "id=" + id +
                 ", userId=" + userId +
                 ", title='" + title + '\'' +
-                ", description='" + description + '\'' +
+                ", description=" + abbreviatedDescription() +
                 ", category='" + category + '\'' +
                 ", priority='" + priority + '\'' +
                 ", status='" + status + '\'' +
@@ -198,4 +223,15 @@ public class Task {
                 ", updatedAt=" + updatedAt +
                 '}';
     }
-}
\ No newline at end of file
+
+    private String abbreviatedDescription() {
+        if (description == null) {
+            return "null";
+        }
+        if (description.length() <= TO_STRING_DESCRIPTION_LENGTH) {
+            return "'" + description + "'";
+        }
+        return "'" + description.substring(0, TO_STRING_DESCRIPTION_LENGTH) + "...' ("
+                + description.length() + " caracteres)";
+    }
+}
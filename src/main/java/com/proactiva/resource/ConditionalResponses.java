@@ -0,0 +1,45 @@
+package com.proactiva.resource;
+
+import com.proactiva.dto.ResourceVersion;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Respostas com ETag fraca para as leituras de tarefas e usuários.
+ *
+ * As respostas vão com "Cache-Control: private, no-cache": o navegador guarda a resposta, mas
+ * revalida a cada uso enviando If-None-Match, e recebe 304 sem corpo quando nada mudou.
+ */
+final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.valueOf("private, no-cache");
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Resposta 304 se o If-None-Match da requisição corresponder à versão, senão null.
+     */
+    static Response notModified(Request request, ResourceVersion version) {
+        EntityTag tag = entityTag(version);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        return notModified != null ? notModified.tag(tag).cacheControl(REVALIDATE).build() : null;
+    }
+
+    /**
+     * Resposta 200 com a entidade e sua ETag, ou 304 se o cliente já tiver essa versão.
+     */
+    static Response ok(Request request, Object entity, ResourceVersion version) {
+        Response notModified = notModified(request, version);
+        if (notModified != null) {
+            return notModified;
+        }
+        return Response.ok(entity).tag(entityTag(version)).cacheControl(REVALIDATE).build();
+    }
+
+    private static EntityTag entityTag(ResourceVersion version) {
+        return new EntityTag(version.tag(), true);
+    }
+}
@@ -1,5 +1,9 @@
 package com.proactiva.resource;
 
+import com.proactiva.service.DueDateScheduler;
+import com.proactiva.service.LoadStatus;
+import com.proactiva.service.TaskSearchIndex;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -7,23 +11,39 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Resource REST para verificação de saúde da API.
  * Endpoint: /api/health
+ *
+ * Também informa a carga inicial das estruturas em memória: enquanto alguma não terminou (ou está
+ * sendo repetida após uma falha), o status é "DEGRADED" e os endpoints que dependem dela respondem 503.
  */
 @Path("/api/health")
 @Produces(MediaType.APPLICATION_JSON)
 public class HealthResource {
 
+    @Inject
+    TaskSearchIndex searchIndex;
+
+    @Inject
+    DueDateScheduler dueDateScheduler;
+
     /**
      * Verifica se a API está funcionando.
      * GET /api/health
      */
     @GET
     public Response health() {
+        LoadStatus searchStatus = searchIndex.loadStatus();
+        Optional<LoadStatus> dueDatesStatus = dueDateScheduler.loadStatus();
+        boolean ready = searchStatus.isReady() && dueDatesStatus.map(LoadStatus::isReady).orElse(true);
+
         Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
+        response.put("status", ready ? "UP" : "DEGRADED");
+        response.put("searchIndex", searchStatus);
+        dueDatesStatus.ifPresent(status -> response.put("dueDates", status));
         response.put("message", "Task Manager API está funcionando");
         response.put("timestamp", System.currentTimeMillis());
         
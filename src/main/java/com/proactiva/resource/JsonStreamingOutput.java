@@ -0,0 +1,125 @@
+package com.proactiva.resource;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.proactiva.dao.RowHandler;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+/**
+ * Escreve linhas do banco diretamente na resposta HTTP à medida que são lidas do ResultSet,
+ * como array JSON ou NDJSON (um objeto por linha). O uso de memória não depende do número de linhas.
+ *
+ * @param <T> tipo das linhas serializadas
+ */
+public class JsonStreamingOutput<T> implements StreamingOutput {
+
+    /**
+     * Media type de NDJSON (newline-delimited JSON).
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * Quantidade de linhas entre flushes explícitos para o cliente.
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    /**
+     * Formato de saída do streaming.
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        NDJSON(APPLICATION_NDJSON);
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Converte o valor do parâmetro "stream" em um formato.
+         *
+         * @param value "json" ou "ndjson"
+         * @return formato correspondente
+         * @throws IllegalArgumentException se o valor for inválido
+         */
+        public static Format fromParam(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Formato de stream inválido. Valores aceitos: json, ndjson");
+        }
+    }
+
+    /**
+     * Fonte das linhas: uma consulta de streaming do DAO.
+     *
+     * @param <T> tipo das linhas
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void forEach(RowHandler<T> handler) throws SQLException, IOException;
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final Format format;
+    private final RowSource<T> source;
+
+    public JsonStreamingOutput(ObjectMapper objectMapper, Format format, RowSource<T> source) {
+        this.objectMapper = objectMapper;
+        // O flush é controlado aqui, e não a cada objeto serializado
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.format = format;
+        this.source = source;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Um stream interrompido não pode ganhar o "]" final e parecer uma exportação completa
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.setRootValueSeparator(null);
+
+        if (format == Format.JSON) {
+            generator.writeStartArray();
+        }
+
+        long[] count = {0};
+        try {
+            source.forEach(row -> {
+                rowWriter.writeValue(generator, row);
+                if (format == Format.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                // Envia a primeira linha imediatamente e depois em blocos
+                if (++count[0] == 1 || count[0] % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            });
+        } catch (SQLException e) {
+            // O status 200 já foi enviado. O generator não é fechado nem esvaziado: o que está no
+            // buffer é descartado e a resposta termina incompleta (JSON inválido ou conexão encerrada)
+            throw new WebApplicationException("Erro ao ler dados durante o streaming", e);
+        }
+
+        if (format == Format.JSON) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+}
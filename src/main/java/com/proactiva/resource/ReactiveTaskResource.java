@@ -0,0 +1,112 @@
+package com.proactiva.resource;
+
+import com.proactiva.dao.ReactiveTaskDAO;
+import com.proactiva.dto.ErrorResponse;
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.interceptor.ReactiveConcurrencyLimiter;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import java.util.Optional;
+
+/**
+ * Leituras de tarefas pelo cliente reativo.
+ * Endpoints: /api/reactive/tasks
+ *
+ * Mesmas respostas de GET /api/tasks/{id} e GET /api/tasks/user/{userId} (lista completa), mas
+ * executadas no event loop: a thread é liberada enquanto o banco responde. Existe só com
+ * {@code proactiva.reactive-reads.enabled=true}, para comparar os dois modelos sob a mesma carga;
+ * os endpoints JDBC de {@link TaskResource} continuam iguais.
+ *
+ * A concorrência é limitada pelo {@link ReactiveConcurrencyLimiter}, que segura a permissão até
+ * o Uni terminar; sem permissão livre a resposta é 503 com Retry-After.
+ */
+@NonBlocking
+@IfBuildProperty(name = "proactiva.reactive-reads.enabled", stringValue = "true")
+@Timed(value = "proactiva.http.endpoint", percentiles = {0.5, 0.95, 0.99})
+@Path("/api/reactive/tasks")
+@Produces(MediaType.APPLICATION_JSON)
+public class ReactiveTaskResource {
+
+    @Inject
+    ReactiveTaskDAO reactiveTaskDAO;
+
+    @Inject
+    ReactiveConcurrencyLimiter limiter;
+
+    /**
+     * Busca uma tarefa por ID.
+     * GET /api/reactive/tasks/{id}
+     *
+     * Com If-None-Match, compara só a versão antes de ler a linha completa.
+     */
+    @GET
+    @Path("/{id}")
+    public Uni<Response> findById(
+            @PathParam("id") Long id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
+        return limiter.limit(() -> notModified(ifNoneMatch, request, reactiveTaskDAO.findVersion(id))
+                .chain(notModified -> notModified != null
+                        ? Uni.createFrom().item(notModified)
+                        : reactiveTaskDAO.findById(id).map(task -> task
+                                .map(found -> ConditionalResponses.ok(request, found, ResourceVersion.of(found)))
+                                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                                        .entity(new ErrorResponse("Not Found", "Tarefa não encontrada", 404))
+                                        .build())))
+                .onFailure().recoverWithItem(e ->
+                        Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                .entity(new ErrorResponse("Internal Server Error", "Erro ao buscar tarefa", 500))
+                                .build()));
+    }
+
+    /**
+     * Lista todas as tarefas de um usuário (sem paginação nem projeção).
+     * GET /api/reactive/tasks/user/{userId}
+     *
+     * Com If-None-Match, compara só a versão da lista antes de ler as linhas.
+     */
+    @GET
+    @Path("/user/{userId}")
+    public Uni<Response> findByUserId(
+            @PathParam("userId") Long userId,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
+        return limiter.limit(() -> notModified(ifNoneMatch, request,
+                        reactiveTaskDAO.findVersionByUserId(userId).map(Optional::of))
+                .chain(response -> response != null
+                        ? Uni.createFrom().item(response)
+                        : reactiveTaskDAO.findByUserId(userId)
+                                .collect().asList()
+                                .map(tasks -> ConditionalResponses.ok(request, tasks, ResourceVersion.ofTasks(tasks))))
+                .onFailure().recoverWithItem(e ->
+                        Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                .entity(new ErrorResponse("Internal Server Error", "Erro ao listar tarefas", 500))
+                                .build()));
+    }
+
+    /**
+     * 304 se o If-None-Match corresponder à versão lida, senão null (também sem o cabeçalho).
+     */
+    static Uni<Response> notModified(String ifNoneMatch, Request request,
+                                     Uni<Optional<ResourceVersion>> version) {
+        if (ifNoneMatch == null) {
+            return Uni.createFrom().nullItem();
+        }
+        return version.map(found -> found
+                .map(current -> ConditionalResponses.notModified(request, current))
+                .orElse(null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.proactiva.resource;
+
+import com.proactiva.dao.ReactiveUserDAO;
+import com.proactiva.dto.ErrorResponse;
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.interceptor.ReactiveConcurrencyLimiter;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Leitura de usuários pelo cliente reativo.
+ * Endpoints: /api/reactive/users
+ *
+ * Equivalente a GET /api/users/{id} de {@link UserResource}, nas mesmas condições do
+ * {@link ReactiveTaskResource}.
+ */
+@NonBlocking
+@IfBuildProperty(name = "proactiva.reactive-reads.enabled", stringValue = "true")
+@Timed(value = "proactiva.http.endpoint", percentiles = {0.5, 0.95, 0.99})
+@Path("/api/reactive/users")
+@Produces(MediaType.APPLICATION_JSON)
+public class ReactiveUserResource {
+
+    @Inject
+    ReactiveUserDAO reactiveUserDAO;
+
+    @Inject
+    ReactiveConcurrencyLimiter limiter;
+
+    /**
+     * Busca um usuário por ID.
+     * GET /api/reactive/users/{id}
+     *
+     * Com If-None-Match, compara só a versão antes de ler a linha completa.
+     */
+    @GET
+    @Path("/{id}")
+    public Uni<Response> findById(
+            @PathParam("id") Long id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
+        return limiter.limit(() -> ReactiveTaskResource.notModified(ifNoneMatch, request, reactiveUserDAO.findVersion(id))
+                .chain(notModified -> notModified != null
+                        ? Uni.createFrom().item(notModified)
+                        : reactiveUserDAO.findById(id).map(user -> user
+                                .map(found -> ConditionalResponses.ok(request, found, ResourceVersion.of(found)))
+                                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                                        .entity(new ErrorResponse("Not Found", "Usuário não encontrado", 404))
+                                        .build())))
+                .onFailure().recoverWithItem(e ->
+                        Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                .entity(new ErrorResponse("Internal Server Error", "Erro ao buscar usuário", 500))
+                                .build()));
+    }
+}
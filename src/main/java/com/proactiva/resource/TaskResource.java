@@ -1,14 +1,37 @@
 package com.proactiva.resource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.proactiva.bo.TaskBO;
+import com.proactiva.dao.TaskProjection;
+import com.proactiva.dto.BatchResponse;
 import com.proactiva.dto.ErrorResponse;
+import com.proactiva.dto.PageResponse;
+import com.proactiva.dto.ResourceVersion;
+import com.proactiva.dto.TaskSearchResult;
+import com.proactiva.dto.TaskStats;
+import com.proactiva.interceptor.ConcurrencyLimited;
 import com.proactiva.model.Task;
 import com.proactiva.model.TaskHistory;
+import com.proactiva.service.TaskChangeFeed;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.arc.NoClassInterceptors;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.jboss.logging.Logger;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
@@ -16,15 +39,35 @@ import java.util.Optional;
 /**
  * Resource REST para gerenciamento de tarefas.
  * Endpoints: /api/tasks
+ *
+ * As mesmas leituras mais frequentes (GET /{id} e GET /user/{userId}) também existem no modelo
+ * reativo, em {@link ReactiveTaskResource}, para comparação.
+ *
+ * Com {@code quarkus.virtual-threads.enabled=true} os endpoints rodam em virtual threads, limitados
+ * ao tamanho do pool de conexões pelo {@link ConcurrencyLimited}; por padrão rodam no pool de workers.
+ *
+ * Todos os endpoints são medidos no timer "proactiva.http.endpoint"; os que ignoram os interceptors
+ * da classe repetem a anotação.
  */
+@RunOnVirtualThread
+@ConcurrencyLimited
+@Timed(value = "proactiva.http.endpoint", percentiles = {0.5, 0.95, 0.99})
 @Path("/api/tasks")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class TaskResource {
 
+    private static final Logger LOG = Logger.getLogger(TaskResource.class);
+
     @Inject
     TaskBO taskBO;
 
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    TaskChangeFeed changeFeed;
+
     /**
      * Cria uma nova tarefa.
      * POST /api/tasks
@@ -43,25 +86,75 @@ public class TaskResource {
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao criar tarefa (DB)", 500))
                     .build();
         } catch (Exception e) { // Captura qualquer outra exceção de runtime
-            e.printStackTrace(); // Loga a exceção completa para debug
+            LOG.error("Erro inesperado ao criar tarefa", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro inesperado ao criar tarefa: " + e.getMessage(), 500))
                     .build();
         }
     }
 
+    /**
+     * Cria várias tarefas em uma única requisição.
+     * POST /api/tasks/batch
+     *
+     * Retorna 201 se todas foram criadas, 207 se apenas parte foi aceita
+     * e 400 se nenhuma passou na validação. Cada item traz seu próprio status.
+     */
+    @POST
+    @Path("/batch")
+    public Response createBatch(List<Task> tasks) {
+        try {
+            BatchResponse result = taskBO.createBatch(tasks);
+
+            int status;
+            if (result.getFailed() == 0) {
+                status = Response.Status.CREATED.getStatusCode();
+            } else if (result.getCreated() == 0) {
+                status = Response.Status.BAD_REQUEST.getStatusCode();
+            } else {
+                status = 207; // Multi-Status
+            }
+
+            return Response.status(status).entity(result).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
+                    .build();
+        } catch (SQLException e) {
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("Internal Server Error", "Erro ao criar tarefas em lote (DB)", 500))
+                    .build();
+        }
+    }
+
     /**
      * Busca uma tarefa por ID.
      * GET /api/tasks/{id}
+     *
+     * Responde com ETag fraca; com If-None-Match, devolve 304 se a tarefa não mudou.
      */
     @GET
     @Path("/{id}")
-    public Response findById(@PathParam("id") Long id) {
+    public Response findById(
+            @PathParam("id") Long id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
         try {
+            // Revalidação: compara só a versão, sem ler a linha completa (e o CLOB)
+            if (ifNoneMatch != null) {
+                Optional<ResourceVersion> version = taskBO.findVersion(id);
+                if (version.isPresent()) {
+                    Response notModified = ConditionalResponses.notModified(request, version.get());
+                    if (notModified != null) {
+                        return notModified;
+                    }
+                }
+            }
+
             Optional<Task> task = taskBO.findById(id);
 
             if (task.isPresent()) {
-                return Response.ok(task.get()).build();
+                return ConditionalResponses.ok(request, task.get(), ResourceVersion.of(task.get()));
             } else {
                 return Response.status(Response.Status.NOT_FOUND)
                         .entity(new ErrorResponse("Not Found", "Tarefa não encontrada", 404))
@@ -77,13 +170,46 @@ public class TaskResource {
     /**
      * Lista todas as tarefas de um usuário.
      * GET /api/tasks/user/{userId}
+     *
+     * Com "limit" ou "after" retorna uma página com "nextCursor":
+     * - /api/tasks/user/1?limit=20
+     * - /api/tasks/user/1?limit=20&after={nextCursor}
+     *
+     * A lista completa (sem paginação) responde com ETag fraca e 304 para If-None-Match.
+     *
+     * Com "fields" retorna só os campos pedidos, lidos do banco sem as demais colunas:
+     * - /api/tasks/user/1?fields=id,title,status,dueDate
      */
     @GET
     @Path("/user/{userId}")
-    public Response findByUserId(@PathParam("userId") Long userId) {
+    public Response findByUserId(
+            @PathParam("userId") Long userId,
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @QueryParam("fields") String fields,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
         try {
-            List<Task> tasks = taskBO.findByUserId(userId);
-            return Response.ok(tasks).build();
+            TaskProjection projection = TaskProjection.parse(fields);
+
+            if (limit != null || after != null) {
+                PageResponse<Task> page = taskBO.findByUserIdPage(userId, after, limit, projection);
+                return Response.ok(render(page, projection)).build();
+            }
+
+            if (ifNoneMatch != null) {
+                Response notModified = ConditionalResponses.notModified(request, taskBO.findVersionByUserId(userId));
+                if (notModified != null) {
+                    return notModified;
+                }
+            }
+
+            List<Task> tasks = taskBO.findByUserId(userId, projection);
+            return ConditionalResponses.ok(request, render(tasks, projection), ResourceVersion.ofTasks(tasks));
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
+                    .build();
         } catch (SQLException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao listar tarefas", 500))
@@ -91,6 +217,113 @@ public class TaskResource {
         }
     }
 
+    /**
+     * Contagens de tarefas de um usuário para o painel: total, por status, por categoria e por prioridade.
+     * GET /api/tasks/user/{userId}/stats
+     *
+     * Calculadas no banco só no primeiro acesso; depois vêm de contadores em memória.
+     */
+    @GET
+    @Path("/user/{userId}/stats")
+    public Response getStats(@PathParam("userId") Long userId) {
+        try {
+            TaskStats stats = taskBO.getStats(userId);
+            return Response.ok(stats).build();
+        } catch (SQLException e) {
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("Internal Server Error", "Erro ao calcular estatísticas", 500))
+                    .build();
+        }
+    }
+
+    /**
+     * Busca textual nas tarefas de um usuário, ordenada por relevância.
+     * GET /api/tasks/user/{userId}/search?q=relatorio mensal&limit=20
+     *
+     * Usa o índice em memória; responde 503 enquanto o índice é carregado na inicialização.
+     */
+    @GET
+    @Path("/user/{userId}/search")
+    public Response search(
+            @PathParam("userId") Long userId,
+            @QueryParam("q") String query,
+            @QueryParam("limit") Integer limit) {
+        try {
+            List<TaskSearchResult> results = taskBO.search(userId, query, limit);
+            return Response.ok(results).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
+                    .build();
+        }
+    }
+
+    /**
+     * Feed de alterações das tarefas do usuário (Server-Sent Events), para o front-end não precisar
+     * recarregar as listas.
+     * GET /api/tasks/user/{userId}/events
+     *
+     * Eventos: created, updated, completed, deleted, due_soon e overdue, com {"type", "task"} em JSON.
+     * Ao reconectar, o EventSource manda Last-Event-ID e recebe os eventos perdidos; se eles já saíram
+     * do buffer, recebe "reset" e deve recarregar a lista.
+     *
+     * Roda no event loop e só registra a conexão: nenhuma thread fica presa enquanto ela está aberta.
+     */
+    @GET
+    @Path("/user/{userId}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @NonBlocking
+    @NoClassInterceptors
+    @Timed(value = "proactiva.http.endpoint", percentiles = {0.5, 0.95, 0.99})
+    public void events(
+            @PathParam("userId") Long userId,
+            @HeaderParam("Last-Event-ID") String lastEventId,
+            @Context SseEventSink sink,
+            @Context Sse sse) {
+        changeFeed.subscribe(userId, lastEventId, sink, sse);
+    }
+
+    /**
+     * Tarefas em aberto do usuário com o prazo vencido.
+     * GET /api/tasks/user/{userId}/overdue
+     *
+     * Vem do acompanhamento de prazos em memória; responde 503 enquanto ele é carregado na inicialização
+     * e 404 se ele estiver desativado (proactiva.due-dates.enabled=false).
+     */
+    @GET
+    @Path("/user/{userId}/overdue")
+    public Response getOverdue(@PathParam("userId") Long userId) {
+        Optional<List<Task>> tasks = taskBO.findOverdue(userId);
+
+        if (tasks.isPresent()) {
+            return Response.ok(tasks.get()).build();
+        } else {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("Not Found", "Acompanhamento de prazos desativado", 404))
+                    .build();
+        }
+    }
+
+    /**
+     * Sugestões de título enquanto o usuário digita (títulos já usados, mais recentes primeiro).
+     * GET /api/tasks/user/{userId}/suggest?prefix=rel&limit=10
+     */
+    @GET
+    @Path("/user/{userId}/suggest")
+    public Response suggest(
+            @PathParam("userId") Long userId,
+            @QueryParam("prefix") String prefix,
+            @QueryParam("limit") Integer limit) {
+        try {
+            List<String> titles = taskBO.suggestTitles(userId, prefix, limit);
+            return Response.ok(titles).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
+                    .build();
+        }
+    }
+
     /**
      * Lista tarefas de um usuário filtradas por status.
      * GET /api/tasks/user/{userId}/status/{status}
@@ -98,15 +331,26 @@ public class TaskResource {
      * Exemplos:
      * - /api/tasks/user/1/status/EM_ANDAMENTO (tarefas em andamento)
      * - /api/tasks/user/1/status/CONCLUIDO (histórico completo de tarefas concluídas)
+     * - /api/tasks/user/1/status/EM_ANDAMENTO?fields=id,title,dueDate (só os campos pedidos)
      */
     @GET
     @Path("/user/{userId}/status/{status}")
     public Response findByUserIdAndStatus(
             @PathParam("userId") Long userId,
-            @PathParam("status") String status) {
+            @PathParam("status") String status,
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @QueryParam("fields") String fields) {
         try {
-            List<Task> tasks = taskBO.findByUserIdAndStatus(userId, status);
-            return Response.ok(tasks).build();
+            TaskProjection projection = TaskProjection.parse(fields);
+
+            if (limit != null || after != null) {
+                PageResponse<Task> page = taskBO.findByUserIdAndStatusPage(userId, status, after, limit, projection);
+                return Response.ok(render(page, projection)).build();
+            }
+
+            List<Task> tasks = taskBO.findByUserIdAndStatus(userId, status, projection);
+            return Response.ok(render(tasks, projection)).build();
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
@@ -121,12 +365,40 @@ public class TaskResource {
     /**
      * Lista todas as tarefas (admin).
      * GET /api/tasks
+     *
+     * Com "limit" ou "after" retorna uma página com "nextCursor".
+     * Com "stream=json" ou "stream=ndjson" exporta todas as tarefas em streaming,
+     * escrevendo cada linha assim que é lida do banco.
+     * Com "fields" (exceto no streaming) retorna só os campos pedidos.
      */
     @GET
-    public Response findAll() {
+    @Produces({MediaType.APPLICATION_JSON, JsonStreamingOutput.APPLICATION_NDJSON})
+    public Response findAll(
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @QueryParam("stream") String stream,
+            @QueryParam("fields") String fields) {
         try {
-            List<Task> tasks = taskBO.findAll();
-            return Response.ok(tasks).build();
+            if (stream != null) {
+                JsonStreamingOutput.Format format = JsonStreamingOutput.Format.fromParam(stream);
+                return Response.ok(new JsonStreamingOutput<>(objectMapper, format, taskBO::streamAll))
+                        .type(format.getMediaType())
+                        .build();
+            }
+
+            TaskProjection projection = TaskProjection.parse(fields);
+
+            if (limit != null || after != null) {
+                PageResponse<Task> page = taskBO.findAllPage(after, limit, projection);
+                return Response.ok(render(page, projection)).build();
+            }
+
+            List<Task> tasks = taskBO.findAll(projection);
+            return Response.ok(render(tasks, projection)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
+                    .build();
         } catch (SQLException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao listar tarefas", 500))
@@ -134,6 +406,27 @@ public class TaskResource {
         }
     }
 
+    /**
+     * Exporta todo o histórico de tarefas em streaming.
+     * GET /api/tasks/history?stream=json|ndjson
+     */
+    @GET
+    @Path("/history")
+    @Produces({MediaType.APPLICATION_JSON, JsonStreamingOutput.APPLICATION_NDJSON})
+    public Response exportHistory(@QueryParam("stream") @DefaultValue("json") String stream) {
+        try {
+            JsonStreamingOutput.Format format = JsonStreamingOutput.Format.fromParam(stream);
+            return Response.ok(new JsonStreamingOutput<>(objectMapper, format, taskBO::streamHistory))
+                    .type(format.getMediaType())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
+                    .build();
+        }
+    }
+
     /**
      * Atualiza uma tarefa existente.
      * PUT /api/tasks/{id}
@@ -155,7 +448,7 @@ public class TaskResource {
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao atualizar tarefa (DB)", 500))
                     .build();
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Erro inesperado ao atualizar tarefa", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro inesperado ao atualizar tarefa: " + e.getMessage(), 500))
                     .build();
@@ -209,13 +502,51 @@ public class TaskResource {
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao deletar tarefa (DB)", 500))
                     .build();
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Erro inesperado ao deletar tarefa", e);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro inesperado ao deletar tarefa: " + e.getMessage(), 500))
                     .build();
         }
     }
 
+    /**
+     * Descrição completa de uma tarefa, em texto puro.
+     * GET /api/tasks/{id}/description
+     *
+     * As listagens trazem só "descriptionPreview"; aqui o CLOB é copiado do banco para a resposta
+     * em streaming, sem montar a descrição inteira em memória.
+     */
+    @GET
+    @Path("/{id}/description")
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response getDescription(@PathParam("id") Long id) {
+        try {
+            if (taskBO.findVersion(id).isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND)
+                        .type(MediaType.APPLICATION_JSON)
+                        .entity(new ErrorResponse("Not Found", "Tarefa não encontrada", 404))
+                        .build();
+            }
+
+            StreamingOutput body = output -> {
+                Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                try {
+                    taskBO.writeDescription(id, writer);
+                } catch (SQLException e) {
+                    // O status 200 já foi enviado; interromper a resposta sinaliza o erro ao cliente
+                    throw new WebApplicationException("Erro ao ler a descrição da tarefa", e);
+                }
+                writer.flush();
+            };
+            return Response.ok(body).type(MediaType.TEXT_PLAIN + ";charset=UTF-8").build();
+        } catch (SQLException e) {
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ErrorResponse("Internal Server Error", "Erro ao buscar tarefa", 500))
+                    .build();
+        }
+    }
+
     /**
      * Lista o histórico de uma tarefa.
      * GET /api/tasks/{id}/history
@@ -232,4 +563,18 @@ public class TaskResource {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Corpo da listagem: as próprias tarefas (resumo padrão), ou só os campos pedidos em "fields".
+     */
+    private static Object render(List<Task> tasks, TaskProjection projection) {
+        return projection.isSummary() ? tasks : projection.view(tasks);
+    }
+
+    private static Object render(PageResponse<Task> page, TaskProjection projection) {
+        if (projection.isSummary()) {
+            return page;
+        }
+        return new PageResponse<>(projection.view(page.getItems()), page.getNextCursor(), page.getLimit());
+    }
+}
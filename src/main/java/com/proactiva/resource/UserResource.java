@@ -3,13 +3,21 @@ package com.proactiva.resource;
 import com.proactiva.bo.UserBO;
 import com.proactiva.dto.AuthResponse;
 import com.proactiva.dto.ErrorResponse;
+import com.proactiva.dto.ResourceVersion;
 import com.proactiva.dto.LoginRequest;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.interceptor.ConcurrencyLimited;
 import com.proactiva.model.User;
 import com.proactiva.service.TokenService; // NOVO IMPORT
+import io.micrometer.core.annotation.Timed;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import java.sql.SQLException;
 import java.util.List;
@@ -18,7 +26,13 @@ import java.util.Optional;
 /**
  * Resource REST para gerenciamento de usuários.
  * Endpoints: /api/users
+ *
+ * Mesmo modo de execução do {@link TaskResource}: virtual threads quando habilitadas, com o
+ * limitador de concorrência. GET /{id} também existe no modelo reativo, em {@link ReactiveUserResource}.
  */
+@RunOnVirtualThread
+@ConcurrencyLimited
+@Timed(value = "proactiva.http.endpoint", percentiles = {0.5, 0.95, 0.99})
 @Path("/api/users")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
@@ -53,6 +67,11 @@ public class UserResource {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
                     .build();
+        } catch (ServiceBusyException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", e.getRetryAfterSeconds())
+                    .entity(new ErrorResponse("Service Unavailable", e.getMessage(), 503))
+                    .build();
         } catch (SQLException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao registrar usuário", 500))
@@ -63,6 +82,8 @@ public class UserResource {
     /**
      * Autentica um usuário (login).
      * POST /api/users/login
+     *
+     * Retorna 503 com Retry-After quando o pool de autenticação está saturado.
      */
     @POST
     @Path("/login")
@@ -85,6 +106,11 @@ public class UserResource {
                         .entity(new ErrorResponse("Unauthorized", "Credenciais inválidas", 401))
                         .build();
             }
+        } catch (ServiceBusyException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", e.getRetryAfterSeconds())
+                    .entity(new ErrorResponse("Service Unavailable", e.getMessage(), 503))
+                    .build();
         } catch (SQLException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao autenticar usuário", 500))
@@ -95,17 +121,32 @@ public class UserResource {
     /**
      * Busca um usuário por ID.
      * GET /api/users/{id}
+     *
+     * Responde com ETag fraca; com If-None-Match, devolve 304 se o usuário não mudou.
      */
     @GET
     @Path("/{id}")
-    public Response findById(@PathParam("id") Long id) {
+    public Response findById(
+            @PathParam("id") Long id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
         try {
+            if (ifNoneMatch != null) {
+                Optional<ResourceVersion> version = userBO.findVersion(id);
+                if (version.isPresent()) {
+                    Response notModified = ConditionalResponses.notModified(request, version.get());
+                    if (notModified != null) {
+                        return notModified;
+                    }
+                }
+            }
+
             Optional<User> user = userBO.findById(id);
 
             if (user.isPresent()) {
                 User foundUser = user.get();
                 foundUser.setPassword(null);
-                return Response.ok(foundUser).build();
+                return ConditionalResponses.ok(request, foundUser, ResourceVersion.of(foundUser));
             } else {
                 return Response.status(Response.Status.NOT_FOUND)
                         .entity(new ErrorResponse("Not Found", "Usuário não encontrado", 404))
@@ -154,6 +195,11 @@ public class UserResource {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse("Bad Request", e.getMessage(), 400))
                     .build();
+        } catch (ServiceBusyException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", e.getRetryAfterSeconds())
+                    .entity(new ErrorResponse("Service Unavailable", e.getMessage(), 503))
+                    .build();
         } catch (SQLException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(new ErrorResponse("Internal Server Error", "Erro ao atualizar usuário", 500))
@@ -0,0 +1,79 @@
+package com.proactiva.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Última versão ({@link TaskVersions}) aplicada por tarefa em uma estrutura em memória, inclusive
+ * de tarefas excluídas.
+ *
+ * As versões já sem ação atrasada possível são removidas em {@link #prune()}, que percorre o mapa
+ * só quando ele dobra de tamanho desde a última limpeza. Não é thread-safe: o dono sincroniza o
+ * acesso.
+ */
+final class AppliedVersions {
+
+    private final TaskVersions taskVersions;
+    private final int minPruneSize;
+    private final Map<Long, Long> versions = new HashMap<>();
+    private int pruneAt;
+
+    /**
+     * @param taskVersions origem das versões
+     * @param minPruneSize tamanho a partir do qual as limpezas começam
+     */
+    AppliedVersions(TaskVersions taskVersions, int minPruneSize) {
+        this.taskVersions = taskVersions;
+        this.minPruneSize = minPruneSize;
+        this.pruneAt = minPruneSize;
+    }
+
+    /**
+     * Registra a versão se ela for mais recente que a já aplicada.
+     *
+     * @param id ID da tarefa
+     * @param version versão da ação
+     * @return true se a ação deve ser aplicada; false se chegou depois de uma mais recente
+     */
+    boolean accept(Long id, long version) {
+        if (version <= get(id)) {
+            return false;
+        }
+        versions.put(id, version);
+        return true;
+    }
+
+    /**
+     * @param id ID da tarefa
+     * @return última versão registrada, ou -1 se não houver
+     */
+    long get(Long id) {
+        return versions.getOrDefault(id, -1L);
+    }
+
+    void put(Long id, long version) {
+        versions.put(id, version);
+    }
+
+    void remove(Long id) {
+        versions.remove(id);
+    }
+
+    int size() {
+        return versions.size();
+    }
+
+    /**
+     * Esquece as versões menores que todas as que estão em andamento. Só pode ser chamado depois
+     * da carga inicial da estrutura: até lá, as versões registradas impedem que a carga traga de
+     * volta tarefas já alteradas ou excluídas.
+     */
+    void prune() {
+        if (versions.size() < pruneAt) {
+            return;
+        }
+        long oldest = taskVersions.oldestInFlight();
+        versions.values().removeIf(version -> version < oldest);
+        pruneAt = Math.max(minPruneSize, versions.size() * 2);
+    }
+}
@@ -0,0 +1,129 @@
+package com.proactiva.service;
+
+import com.proactiva.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool dedicado ao trabalho de CPU da autenticação (hash e verificação de senha).
+ *
+ * O paralelismo e a fila são limitados, para que picos de login/cadastro não consumam
+ * as threads e a CPU dos demais endpoints. Com o pool saturado (fila cheia ou espera maior
+ * que o timeout), a operação falha com {@link ServiceBusyException} (503 + Retry-After).
+ */
+@ApplicationScoped
+public class AuthExecutor {
+
+    @Inject
+    MeterRegistry registry;
+
+    /** Threads de hash; 0 usa metade dos processadores disponíveis (mínimo 1). */
+    @ConfigProperty(name = "proactiva.auth.executor.parallelism", defaultValue = "0")
+    int parallelism;
+
+    @ConfigProperty(name = "proactiva.auth.executor.queue-capacity", defaultValue = "64")
+    int queueCapacity;
+
+    @ConfigProperty(name = "proactiva.auth.executor.timeout", defaultValue = "5s")
+    Duration timeout;
+
+    @ConfigProperty(name = "proactiva.auth.executor.retry-after", defaultValue = "1")
+    long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+    private Timer hashTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("proactiva.auth.queue.depth", executor, e -> e.getQueue().size())
+                .description("Operações de autenticação aguardando o pool")
+                .register(registry);
+        hashTimer = Timer.builder("proactiva.auth.hash")
+                .description("Tempo de hash/verificação de senha no pool de autenticação")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        rejectedCounter = registry.counter("proactiva.auth.rejected");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executa a tarefa no pool de autenticação e aguarda o resultado.
+     *
+     * @param task trabalho de CPU (hash ou verificação de senha)
+     * @return resultado da tarefa
+     * @throws ServiceBusyException se o pool estiver saturado ou a espera exceder o timeout
+     */
+    public <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private ServiceBusyException busy() {
+        return new ServiceBusyException("Serviço de autenticação sobrecarregado, tente novamente", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,386 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.TaskDAO;
+import com.proactiva.dto.TaskDueEvent;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Acompanha o prazo (DUE_DATE) das tarefas em aberto e dispara os eventos {@link TaskDueEvent}
+ * "vence em breve" e "atrasada" sem consultar o banco periodicamente.
+ *
+ * Os prazos ficam em uma {@link TimingWheel} avançada a cada tick por uma thread própria. Na
+ * inicialização as tarefas em aberto com prazo são carregadas em segundo plano; até terminar, a
+ * consulta de atrasadas responde 503. Uma carga que falha é reagendada na mesma thread com espera
+ * crescente até dar certo, e a situação aparece em /api/health ({@link #loadStatus()}). Depois disso o TaskBO informa cada criação, alteração,
+ * conclusão ou exclusão confirmada, com a versão de {@link TaskVersions}; uma ação pós-commit que
+ * chegue fora de ordem é ignorada.
+ *
+ * Os eventos só são disparados quando o instante é cruzado com a aplicação no ar. Uma tarefa que já
+ * chega atrasada (na carga ou numa alteração do prazo para o passado) entra direto na lista de
+ * atrasadas, e uma que já está dentro da janela não gera "vence em breve".
+ */
+@ApplicationScoped
+public class DueDateScheduler {
+
+    private static final Logger LOG = Logger.getLogger(DueDateScheduler.class);
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private static final String COMPLETED = "CONCLUIDO";
+
+    /**
+     * Versões registradas a partir das quais as antigas são esquecidas.
+     */
+    private static final int MIN_PRUNE_SIZE = 1024;
+
+    /**
+     * Espera máxima entre duas tentativas de carga.
+     */
+    static final Duration MAX_LOAD_BACKOFF = Duration.ofMinutes(1);
+
+    @Inject
+    TaskDAO taskDAO;
+
+    @Inject
+    TaskVersions taskVersions;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Event<TaskDueEvent> events;
+
+    @ConfigProperty(name = "proactiva.due-dates.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "proactiva.due-dates.due-soon", defaultValue = "24h")
+    Duration dueSoonWindow;
+
+    @ConfigProperty(name = "proactiva.due-dates.tick", defaultValue = "1s")
+    Duration tick;
+
+    @ConfigProperty(name = "proactiva.due-dates.load-backoff", defaultValue = "1s")
+    Duration loadBackoff;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    private TimingWheel<Expiry> wheel;
+    private final Map<Long, Tracked> tracked = new HashMap<>();
+    // Última versão aplicada por tarefa, inclusive exclusões e conclusões
+    private AppliedVersions versions;
+    private final Map<Long, Map<Long, Task>> overdueByUser = new HashMap<>();
+    private final AtomicLong overdueCount = new AtomicLong();
+    ScheduledExecutorService ticker;
+    private Counter dueSoonEvents;
+    private Counter overdueEvents;
+    private final LoadStatus loadStatus = new LoadStatus();
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        start();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "proactiva-due-dates");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Mesma thread: os ticks só começam depois da carga (ou da primeira tentativa)
+        ticker.execute(() -> loadWithRetry(loadBackoff.toMillis()));
+        long interval = tick.toMillis();
+        ticker.scheduleAtFixedRate(this::advance, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Cria a roda e registra as métricas.
+     */
+    synchronized void start() {
+        wheel = new TimingWheel<>(tick.toMillis(), clock.millis());
+        versions = new AppliedVersions(taskVersions, MIN_PRUNE_SIZE);
+
+        Gauge.builder("proactiva.due-dates.scheduled", this, DueDateScheduler::scheduledCount)
+                .description("Prazos agendados na roda de tempo")
+                .register(registry);
+        Gauge.builder("proactiva.tasks.overdue", overdueCount, AtomicLong::get)
+                .description("Tarefas em aberto com o prazo vencido")
+                .register(registry);
+        dueSoonEvents = Counter.builder("proactiva.due-dates.events")
+                .tag("type", "due_soon")
+                .description("Eventos de prazo disparados")
+                .register(registry);
+        overdueEvents = Counter.builder("proactiva.due-dates.events")
+                .tag("type", "overdue")
+                .description("Eventos de prazo disparados")
+                .register(registry);
+    }
+
+    /**
+     * Executa {@link #load()} e, se falhar, agenda uma nova tentativa no ticker depois de
+     * {@code backoffMillis}, com o dobro da espera a cada falha, até {@link #MAX_LOAD_BACKOFF}.
+     * Entre as tentativas os ticks continuam, para os prazos já informados pelo TaskBO.
+     */
+    void loadWithRetry(long backoffMillis) {
+        if (load() || ticker.isShutdown()) {
+            return;
+        }
+        LOG.warnf("Nova tentativa de carregar os prazos das tarefas em %d ms", backoffMillis);
+        long next = Math.min(backoffMillis * 2, MAX_LOAD_BACKOFF.toMillis());
+        ticker.schedule(() -> loadWithRetry(next), backoffMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Carrega os prazos das tarefas em aberto. Tarefas já informadas pelo TaskBO, ou carregadas
+     * por uma tentativa anterior que falhou no meio, são mantidas.
+     *
+     * @return true se a carga terminou; false se falhou e precisa ser repetida
+     */
+    boolean load() {
+        long startedAt = System.nanoTime();
+        try {
+            taskDAO.streamOpenWithDueDate(task -> track(task, TaskVersions.LOAD_VERSION));
+            loadStatus.loaded();
+            LOG.infof("Prazos carregados: %d tarefas em aberto, %d atrasadas, em %d ms", trackedCount(),
+                    overdueCount.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return true;
+        } catch (SQLException | IOException | RuntimeException e) {
+            // Sem a carga a lista de atrasadas ficaria incompleta; continua indisponível (503)
+            loadStatus.failed(e);
+            LOG.error("Erro ao carregar os prazos das tarefas", e);
+            return false;
+        }
+    }
+
+    /**
+     * Situação da carga inicial dos prazos.
+     *
+     * @return situação da carga, ou Optional vazio se o acompanhamento de prazos estiver desativado
+     */
+    public Optional<LoadStatus> loadStatus() {
+        return enabled ? Optional.of(loadStatus) : Optional.empty();
+    }
+
+    /**
+     * Passa a acompanhar (ou reagenda) o prazo de uma tarefa criada ou alterada. Tarefas concluídas
+     * ou sem prazo deixam de ser acompanhadas.
+     *
+     * @param task tarefa com status e prazo atuais
+     * @param version versão obtida com {@link TaskVersions#next()} dentro da transação
+     */
+    public void track(Task task, long version) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (this) {
+            Long id = task.getId();
+            if (!accept(id, version)) {
+                return;
+            }
+            untrack(id);
+            if (task.getDueDate() == null || COMPLETED.equals(task.getStatus())) {
+                return;
+            }
+
+            Tracked entry = new Tracked(TaskSearchIndex.summaryOf(task));
+            long dueAt = epochMillis(task.getDueDate());
+            long now = clock.millis();
+            if (dueAt <= now) {
+                markOverdue(entry.task);
+            } else {
+                entry.overdue = wheel.schedule(dueAt, new Expiry(TaskDueEvent.OVERDUE, entry));
+                long dueSoonAt = dueAt - dueSoonWindow.toMillis();
+                if (dueSoonAt > now) {
+                    entry.dueSoon = wheel.schedule(dueSoonAt, new Expiry(TaskDueEvent.DUE_SOON, entry));
+                }
+            }
+            tracked.put(id, entry);
+        }
+    }
+
+    /**
+     * Deixa de acompanhar uma tarefa excluída.
+     *
+     * @param task tarefa excluída
+     * @param version versão obtida com {@link TaskVersions#next()} dentro da transação
+     */
+    public void remove(Task task, long version) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (this) {
+            if (accept(task.getId(), version)) {
+                untrack(task.getId());
+            }
+        }
+    }
+
+    /**
+     * Tarefas em aberto do usuário com o prazo vencido, da mais atrasada para a menos atrasada.
+     *
+     * @param userId ID do usuário
+     * @return tarefas atrasadas (sem a descrição completa), ou Optional vazio se o acompanhamento
+     *         de prazos estiver desativado
+     * @throws ServiceBusyException se os prazos ainda estiverem sendo carregados
+     */
+    public Optional<List<Task>> overdue(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (!loadStatus.isReady()) {
+            throw new ServiceBusyException("Prazos das tarefas em carregamento", RETRY_AFTER_SECONDS);
+        }
+
+        List<Task> tasks;
+        synchronized (this) {
+            Map<Long, Task> overdue = overdueByUser.get(userId);
+            if (overdue == null) {
+                return Optional.of(List.of());
+            }
+            tasks = new ArrayList<>(overdue.values());
+        }
+        tasks.sort(Comparator.comparing(Task::getDueDate).thenComparing(Task::getId));
+        return Optional.of(tasks);
+    }
+
+    /**
+     * Avança a roda até agora e dispara os eventos dos prazos vencidos, fora do bloqueio.
+     */
+    void advance() {
+        try {
+            List<TaskDueEvent> fired = new ArrayList<>();
+            synchronized (this) {
+                wheel.advance(clock.millis(), expiry -> fired.add(expire(expiry)));
+            }
+
+            for (TaskDueEvent dueEvent : fired) {
+                boolean overdue = TaskDueEvent.OVERDUE.equals(dueEvent.getType());
+                (overdue ? overdueEvents : dueSoonEvents).increment();
+                LOG.debugf("Prazo da tarefa %d: %s", dueEvent.getTask().getId(), dueEvent.getType());
+                events.fire(dueEvent);
+            }
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria os próximos ticks do executor
+            LOG.error("Erro ao processar os prazos vencidos", e);
+        }
+    }
+
+    private TaskDueEvent expire(Expiry expiry) {
+        Tracked entry = expiry.entry;
+        if (TaskDueEvent.OVERDUE.equals(expiry.type)) {
+            entry.overdue = null;
+            markOverdue(entry.task);
+        } else {
+            entry.dueSoon = null;
+        }
+        return new TaskDueEvent(expiry.type, entry.task);
+    }
+
+    private boolean accept(Long id, long version) {
+        if (!versions.accept(id, version)) {
+            return false;
+        }
+        // Até o fim da carga, as versões impedem que ela traga de volta tarefas já alteradas
+        if (loadStatus.isReady()) {
+            versions.prune();
+        }
+        return true;
+    }
+
+    private void untrack(Long id) {
+        Tracked previous = tracked.remove(id);
+        if (previous == null) {
+            return;
+        }
+        wheel.cancel(previous.dueSoon);
+        wheel.cancel(previous.overdue);
+
+        Map<Long, Task> overdue = overdueByUser.get(previous.task.getUserId());
+        if (overdue != null && overdue.remove(id) != null) {
+            overdueCount.decrementAndGet();
+            if (overdue.isEmpty()) {
+                overdueByUser.remove(previous.task.getUserId());
+            }
+        }
+    }
+
+    private void markOverdue(Task task) {
+        overdueByUser.computeIfAbsent(task.getUserId(), userId -> new HashMap<>()).put(task.getId(), task);
+        overdueCount.incrementAndGet();
+    }
+
+    private long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    private synchronized int trackedCount() {
+        return tracked.size();
+    }
+
+    /**
+     * Tarefa acompanhada e seus prazos agendados (null depois de vencidos).
+     */
+    private static final class Tracked {
+
+        final Task task;
+        TimingWheel.Timeout<Expiry> dueSoon;
+        TimingWheel.Timeout<Expiry> overdue;
+
+        Tracked(Task task) {
+            this.task = task;
+        }
+    }
+
+    /**
+     * Conteúdo de um prazo na roda: o tipo de evento e a tarefa.
+     */
+    private static final class Expiry {
+
+        final String type;
+        final Tracked entry;
+
+        Expiry(String type, Tracked entry) {
+            this.type = type;
+            this.entry = entry;
+        }
+    }
+}
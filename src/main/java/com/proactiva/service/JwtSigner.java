@@ -0,0 +1,99 @@
+package com.proactiva.service;
+
+import io.smallrye.jwt.algorithm.SignatureAlgorithm;
+import io.smallrye.jwt.util.KeyUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Assinatura de JWTs (RS256) com a chave carregada uma única vez.
+ *
+ * A chave é lida da mesma configuração usada pelo SmallRye JWT
+ * ({@code smallrye.jwt.sign.key.location} e {@code smallrye.jwt.sign.key.id}); o cabeçalho
+ * JWS é constante e fica pré-codificado.
+ *
+ * As instâncias de {@link Signature}, já inicializadas com a chave, ficam em um pool limitado ao
+ * número de processadores (a assinatura só usa CPU). Uma instância por thread não serviria com
+ * virtual threads, em que cada requisição roda em uma thread nova.
+ */
+@ApplicationScoped
+public class JwtSigner {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    @ConfigProperty(name = "smallrye.jwt.sign.key.location")
+    String keyLocation;
+
+    @ConfigProperty(name = "smallrye.jwt.sign.key.id")
+    Optional<String> keyId;
+
+    private PrivateKey privateKey;
+    private String encodedHeader;
+
+    private final BlockingQueue<Signature> signatures =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    @PostConstruct
+    void init() {
+        Key key;
+        try {
+            key = KeyUtils.readSigningKey(keyLocation, keyId.orElse(null), SignatureAlgorithm.RS256);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao ler a chave de assinatura JWT: " + keyLocation, e);
+        }
+        if (!(key instanceof PrivateKey)) {
+            throw new IllegalStateException("Chave de assinatura JWT inválida: " + keyLocation);
+        }
+        privateKey = (PrivateKey) key;
+
+        String header = keyId
+                .map(kid -> "{\"kid\":\"" + kid + "\",\"typ\":\"JWT\",\"alg\":\"RS256\"}")
+                .orElse("{\"typ\":\"JWT\",\"alg\":\"RS256\"}");
+        encodedHeader = BASE64_URL.encodeToString(header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Assina o payload (claims em JSON) e monta o token compacto {@code header.payload.assinatura}.
+     *
+     * @param claimsJson claims serializadas em JSON (UTF-8)
+     * @return token JWT assinado
+     */
+    public String sign(byte[] claimsJson) {
+        String signingInput = encodedHeader + "." + BASE64_URL.encodeToString(claimsJson);
+
+        Signature signature = signatures.poll();
+        if (signature == null) {
+            signature = newSignature();
+        }
+        try {
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            String token = signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+            // sign() reinicia a instância; com o pool cheio ela é descartada
+            signatures.offer(signature);
+            return token;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Erro ao assinar token JWT", e);
+        }
+    }
+
+    private Signature newSignature() {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Erro ao inicializar a assinatura JWT", e);
+        }
+    }
+}
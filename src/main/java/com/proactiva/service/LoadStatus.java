@@ -0,0 +1,49 @@
+package com.proactiva.service;
+
+/**
+ * Situação da carga inicial de uma estrutura em memória a partir do banco, exposta em /api/health.
+ *
+ * Enquanto a carga não termina a estrutura fica indisponível; cada falha é registrada aqui e a
+ * carga é repetida pelo dono, com espera crescente, até dar certo.
+ */
+public final class LoadStatus {
+
+    public enum State {
+        /** Primeira tentativa em andamento. */
+        LOADING,
+        /** Alguma tentativa falhou; a próxima está agendada. */
+        RETRYING,
+        /** Carga concluída. */
+        READY
+    }
+
+    private volatile State state = State.LOADING;
+    private volatile int failedAttempts;
+    private volatile String lastError;
+
+    void failed(Exception e) {
+        failedAttempts++;
+        lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+        state = State.RETRYING;
+    }
+
+    void loaded() {
+        state = State.READY;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
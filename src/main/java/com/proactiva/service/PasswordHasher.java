@@ -0,0 +1,115 @@
+package com.proactiva.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Hash de senhas com PBKDF2-HMAC-SHA256 e fator de trabalho (iterações) configurável.
+ *
+ * Formato armazenado: {@code pbkdf2-sha256$<iterações>$<salt>$<hash>} (salt e hash em Base64).
+ * Hashes antigos (SHA-256 sem salt, em Base64) continuam sendo aceitos no login e são
+ * regravados no formato novo ({@link #needsRehash(String)}).
+ */
+@ApplicationScoped
+public class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @ConfigProperty(name = "proactiva.auth.password.iterations", defaultValue = "310000")
+    int iterations;
+
+    /**
+     * Gera o hash de uma senha com salt aleatório e o fator de trabalho configurado.
+     *
+     * @param password senha em texto plano
+     * @return hash no formato {@code pbkdf2-sha256$iterações$salt$hash}
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$"
+                + encoder.encodeToString(pbkdf2(password, salt, iterations));
+    }
+
+    /**
+     * Verifica uma senha contra o hash armazenado (formato PBKDF2 ou SHA-256 legado).
+     *
+     * @param password senha em texto plano
+     * @param stored hash armazenado
+     * @return true se a senha confere
+     */
+    public boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+
+        if (!stored.startsWith(PREFIX + "$")) {
+            return MessageDigest.isEqual(
+                    legacyHash(password).getBytes(StandardCharsets.US_ASCII),
+                    stored.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(expected, pbkdf2(password, salt, storedIterations));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Indica se o hash deve ser regravado: formato legado ou fator de trabalho diferente do configurado.
+     *
+     * @param stored hash armazenado
+     * @return true se o hash deve ser regerado no próximo login
+     */
+    public boolean needsRehash(String stored) {
+        return stored == null || !stored.startsWith(PREFIX + "$" + iterations + "$");
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Erro ao criptografar senha", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * Hash usado até a adoção do PBKDF2: SHA-256 sem salt, em Base64.
+     */
+    private static String legacyHash(String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Erro ao criptografar senha", e);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.proactiva.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proactiva.dto.TaskChangeEvent;
+import com.proactiva.dto.TaskDueEvent;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed de alterações de tarefas por usuário, entregue por Server-Sent Events.
+ *
+ * O TaskBO publica cada criação, alteração, conclusão e exclusão confirmada; os eventos de prazo
+ * ({@link TaskDueEvent}) também entram no feed. Cada evento é serializado uma vez, recebe um ID
+ * "{instância}-{sequência}" e vai para o buffer de reenvio do usuário, com os últimos
+ * {@code proactiva.events.replay-per-user} eventos dele: um usuário com muitas alterações não tira
+ * do buffer os eventos dos outros. O total de eventos guardados é limitado por
+ * {@code proactiva.events.replay-size}; acima disso sai o buffer inteiro do usuário sem eventos há
+ * mais tempo. A instância é sorteada a cada inicialização, então um ID emitido antes de um reinício
+ * ou por outro nó da API nunca é confundido com um desta execução. Um cliente que reconecta com
+ * Last-Event-ID desta instância recebe os eventos dele que ainda estão no buffer; se algum já saiu,
+ * ou se o ID é de outra instância, recebe um evento "reset" e deve recarregar a lista.
+ *
+ * Uma conexão ociosa custa só o {@link Subscriber} e o sink do Quarkus REST, sem thread própria:
+ * os envios são assíncronos e um único executor manda o heartbeat para todas as conexões. Cada
+ * conexão tolera até {@code proactiva.events.max-pending} envios não confirmados; acima disso o
+ * cliente é desconectado e retoma pelo Last-Event-ID quando voltar a consumir.
+ *
+ * A versão de {@link TaskVersions} descarta uma ação pós-commit que chegue depois de uma mais
+ * recente da mesma tarefa.
+ */
+@ApplicationScoped
+public class TaskChangeFeed {
+
+    private static final Logger LOG = Logger.getLogger(TaskChangeFeed.class);
+
+    private static final String RESET = "reset";
+
+    private static final char EPOCH_SEPARATOR = '-';
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    /**
+     * Versões registradas a partir das quais as antigas são esquecidas.
+     */
+    private static final int MIN_PRUNE_SIZE = 1024;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    TaskVersions taskVersions;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.events.replay-per-user", defaultValue = "64")
+    int replayPerUser;
+
+    @ConfigProperty(name = "proactiva.events.replay-size", defaultValue = "16384")
+    int replaySize;
+
+    @ConfigProperty(name = "proactiva.events.heartbeat", defaultValue = "15s")
+    Duration heartbeat;
+
+    @ConfigProperty(name = "proactiva.events.max-pending", defaultValue = "32")
+    int maxPending;
+
+    @ConfigProperty(name = "proactiva.events.max-subscribers", defaultValue = "10000")
+    int maxSubscribers;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    // Protegidos pelo monitor da instância
+    private AppliedVersions versions;
+    private String epoch;
+    // Buffers de reenvio por usuário, do que recebeu evento há mais tempo para o mais recente
+    private LinkedHashMap<Long, Replay> replays;
+    private int replayed;
+    // Maior sequência entre os buffers inteiros descartados pelo limite total
+    private long evictedUpTo;
+    private long sequence;
+    private ScheduledExecutorService heartbeats;
+    private Counter slowSubscribers;
+
+    void onStart(@Observes StartupEvent event) {
+        start();
+
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "proactiva-sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = heartbeat.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        subscribers.values().forEach(connections -> connections.forEach(subscriber -> subscriber.sink.close()));
+    }
+
+    /**
+     * Cria o buffer de reenvio e registra as métricas.
+     */
+    synchronized void start() {
+        epoch = Long.toUnsignedString(new SecureRandom().nextLong(), Character.MAX_RADIX);
+        replays = new LinkedHashMap<>(16, 0.75f, true);
+        versions = new AppliedVersions(taskVersions, MIN_PRUNE_SIZE);
+
+        Gauge.builder("proactiva.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Conexões abertas no feed de eventos")
+                .register(registry);
+        Gauge.builder("proactiva.events.replay", this, TaskChangeFeed::replayedCount)
+                .description("Eventos guardados para reenvio, somando todos os usuários")
+                .register(registry);
+        slowSubscribers = Counter.builder("proactiva.events.slow-subscribers")
+                .description("Conexões do feed encerradas por acumularem envios pendentes")
+                .register(registry);
+    }
+
+    /**
+     * Publica a alteração de uma tarefa para as conexões do dono dela.
+     *
+     * @param type tipo de alteração (constantes de {@link TaskChangeEvent})
+     * @param task tarefa como ficou (ou como estava, em exclusões)
+     * @param version versão obtida com {@link TaskVersions#next()} dentro da transação
+     */
+    public void publish(String type, Task task, long version) {
+        String data = serialize(new TaskChangeEvent(type, TaskSearchIndex.summaryOf(task)));
+        if (data == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!versions.accept(task.getId(), version)) {
+                return;
+            }
+            versions.prune();
+            append(task.getUserId(), type, data);
+        }
+    }
+
+    void onDue(@Observes TaskDueEvent event) {
+        String data = serialize(event);
+        if (data == null) {
+            return;
+        }
+
+        synchronized (this) {
+            append(event.getTask().getUserId(), event.getType(), data);
+        }
+    }
+
+    /**
+     * Registra uma conexão SSE do usuário. Com Last-Event-ID, reenvia antes os eventos perdidos.
+     *
+     * @param userId ID do usuário
+     * @param lastEventId último ID recebido pelo cliente (null em uma conexão nova)
+     * @param sink conexão
+     * @param sse fábrica de eventos
+     * @throws ServiceBusyException se o limite de conexões for atingido
+     */
+    public void subscribe(Long userId, String lastEventId, SseEventSink sink, Sse sse) {
+        // Reserva a vaga antes de conferir o limite: conexões simultâneas não passam juntas do teto
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceBusyException("Limite de conexões de eventos atingido", RETRY_AFTER_SECONDS);
+        }
+
+        Subscriber subscriber = new Subscriber(userId, sink, sse);
+        try {
+            synchronized (this) {
+                // Reenvio e registro sob o mesmo bloqueio: nenhum evento fica de fora nem chega duas vezes
+                if (lastEventId == null || lastEventId.isBlank()) {
+                    // Envia os cabeçalhos da resposta já na conexão
+                    send(subscriber, sse.newEventBuilder().comment("conectado").build());
+                } else {
+                    resume(subscriber, parseEventId(lastEventId));
+                }
+
+                subscribers.compute(userId, (id, connections) -> {
+                    Set<Subscriber> set = connections != null ? connections : ConcurrentHashMap.newKeySet();
+                    set.add(subscriber);
+                    return set;
+                });
+            }
+        } catch (RuntimeException e) {
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Guarda o evento no buffer do usuário e envia para as conexões dele. Chamado com o bloqueio.
+     */
+    private void append(Long userId, String type, String data) {
+        long id = ++sequence;
+        Entry entry = new Entry(id, eventId(id), type.toLowerCase(Locale.ROOT), data);
+        // Um buffer novo não sabe o que havia em um buffer do mesmo usuário já descartado
+        Replay replay = replays.computeIfAbsent(userId, key -> new Replay(evictedUpTo));
+        replay.entries.addLast(entry);
+        replayed++;
+        if (replay.entries.size() > replayPerUser) {
+            replay.droppedUpTo = replay.entries.removeFirst().id;
+            replayed--;
+        }
+        evictIdleReplays();
+
+        Set<Subscriber> connections = subscribers.get(userId);
+        if (connections != null) {
+            for (Subscriber subscriber : connections) {
+                send(subscriber, entry.toEvent(subscriber.sse));
+            }
+        }
+    }
+
+    /**
+     * Descarta os buffers dos usuários sem eventos há mais tempo até o total voltar ao limite.
+     */
+    private void evictIdleReplays() {
+        Iterator<Replay> eldest = replays.values().iterator();
+        while (replayed > replaySize && eldest.hasNext()) {
+            Replay replay = eldest.next();
+            evictedUpTo = Math.max(evictedUpTo, replay.entries.peekLast().id);
+            replayed -= replay.entries.size();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Reenvia os eventos do usuário posteriores a {@code resumeAfter}, ou manda "reset" se o ID for
+     * de outra instância (null) ou se algum evento dele posterior ao ID já saiu do buffer.
+     */
+    private void resume(Subscriber subscriber, Long resumeAfter) {
+        Replay replay = replays.get(subscriber.userId);
+        long droppedUpTo = replay != null ? replay.droppedUpTo : evictedUpTo;
+        if (resumeAfter == null || resumeAfter < droppedUpTo || resumeAfter > sequence) {
+            send(subscriber, subscriber.sse.newEventBuilder()
+                    .id(eventId(sequence))
+                    .name(RESET)
+                    .data("{}")
+                    .build());
+            return;
+        }
+
+        if (replay != null) {
+            for (Entry entry : replay.entries) {
+                if (entry.id > resumeAfter) {
+                    send(subscriber, entry.toEvent(subscriber.sse));
+                }
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        try {
+            for (Set<Subscriber> connections : subscribers.values()) {
+                for (Subscriber subscriber : connections) {
+                    send(subscriber, subscriber.sse.newEventBuilder().comment("").build());
+                }
+            }
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria os próximos heartbeats
+            LOG.error("Erro ao enviar heartbeat do feed de eventos", e);
+        }
+    }
+
+    private void send(Subscriber subscriber, OutboundSseEvent event) {
+        if (subscriber.sink.isClosed()) {
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.pending.incrementAndGet() > maxPending) {
+            LOG.debugf("Conexão de eventos do usuário %d encerrada: consumidor lento", subscriber.userId);
+            slowSubscribers.increment();
+            disconnect(subscriber);
+            return;
+        }
+
+        subscriber.sink.send(event).whenComplete((ignored, error) -> {
+            subscriber.pending.decrementAndGet();
+            if (error != null) {
+                disconnect(subscriber);
+            }
+        });
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.userId, (id, connections) -> {
+            removed[0] = connections.remove(subscriber);
+            return connections.isEmpty() ? null : connections;
+        });
+        if (removed[0]) {
+            subscriberCount.decrementAndGet();
+        }
+        if (!subscriber.sink.isClosed()) {
+            subscriber.sink.close();
+        }
+    }
+
+    private synchronized int replayedCount() {
+        return replayed;
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            LOG.error("Erro ao serializar evento do feed", e);
+            return null;
+        }
+    }
+
+    private String eventId(long id) {
+        return epoch + EPOCH_SEPARATOR + id;
+    }
+
+    /**
+     * Sequência de um Last-Event-ID emitido por esta instância.
+     *
+     * @return a sequência, ou null se o ID for de outra instância (reinício ou outro nó) ou inválido
+     */
+    private Long parseEventId(String lastEventId) {
+        String value = lastEventId.trim();
+        int separator = value.lastIndexOf(EPOCH_SEPARATOR);
+        if (separator != epoch.length() || !value.startsWith(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Evento publicado, já serializado.
+     */
+    private static final class Entry {
+
+        final long id;
+        final String eventId;
+        final String name;
+        final String data;
+
+        Entry(long id, String eventId, String name, String data) {
+            this.id = id;
+            this.eventId = eventId;
+            this.name = name;
+            this.data = data;
+        }
+
+        OutboundSseEvent toEvent(Sse sse) {
+            return sse.newEventBuilder()
+                    .id(eventId)
+                    .name(name)
+                    .data(data)
+                    .build();
+        }
+    }
+
+    /**
+     * Últimos eventos de um usuário, em ordem de sequência.
+     */
+    private static final class Replay {
+
+        final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        // Maior sequência de um evento do usuário que pode ter saído do buffer
+        long droppedUpTo;
+
+        Replay(long droppedUpTo) {
+            this.droppedUpTo = droppedUpTo;
+        }
+    }
+
+    /**
+     * Conexão SSE aberta e a quantidade de envios ainda não confirmados.
+     */
+    private static final class Subscriber {
+
+        final Long userId;
+        final SseEventSink sink;
+        final Sse sse;
+        final AtomicInteger pending = new AtomicInteger();
+
+        Subscriber(Long userId, SseEventSink sink, Sse sse) {
+            this.userId = userId;
+            this.sink = sink;
+            this.sse = sse;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.TaskHistoryDAO;
+import com.proactiva.model.TaskHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gravação assíncrona (write-behind) do histórico de tarefas.
+ *
+ * As operações do TaskBO apenas enfileiram o histórico em uma fila limitada; uma thread
+ * em segundo plano grava os registros em batch na TASK_HISTORY. No desligamento da aplicação
+ * a fila é esvaziada antes de encerrar.
+ *
+ * Um batch que falha é repetido com espera exponencial ({@code proactiva.history.retry-backoff},
+ * dobrando a cada tentativa), para atravessar uma indisponibilidade curta do banco. Se a última
+ * tentativa também falhar, os registros são gravados um a um: uma linha inválida não leva junto
+ * os demais registros do batch.
+ */
+@ApplicationScoped
+public class TaskHistoryRecorder {
+
+    private static final Logger LOG = Logger.getLogger(TaskHistoryRecorder.class);
+
+    /**
+     * Política aplicada quando a fila está cheia.
+     */
+    public enum OverflowPolicy {
+        /** Grava o histórico de forma síncrona na thread da requisição. */
+        CALLER_RUNS,
+        /** Aguarda espaço na fila até o timeout e, se continuar cheia, grava de forma síncrona. */
+        BLOCK,
+        /** Descarta o histórico e incrementa o contador de descartes. */
+        DROP
+    }
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    @Inject
+    TaskHistoryDAO taskHistoryDAO;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.history.queue-capacity", defaultValue = "10000")
+    int queueCapacity;
+
+    @ConfigProperty(name = "proactiva.history.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "proactiva.history.flush-interval", defaultValue = "200ms")
+    Duration flushInterval;
+
+    @ConfigProperty(name = "proactiva.history.overflow-policy", defaultValue = "CALLER_RUNS")
+    OverflowPolicy overflowPolicy;
+
+    @ConfigProperty(name = "proactiva.history.offer-timeout", defaultValue = "50ms")
+    Duration offerTimeout;
+
+    @ConfigProperty(name = "proactiva.history.shutdown-timeout", defaultValue = "10s")
+    Duration shutdownTimeout;
+
+    @ConfigProperty(name = "proactiva.history.retry-backoff", defaultValue = "100ms")
+    Duration retryBackoff;
+
+    private BlockingQueue<TaskHistory> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter recordedCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Counter writeErrorCounter;
+    private Counter callerRunsCounter;
+
+    void onStart(@Observes StartupEvent event) {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("proactiva.history.queue.depth", queue, BlockingQueue::size)
+                .description("Registros de histórico aguardando gravação")
+                .register(registry);
+        flushTimer = Timer.builder("proactiva.history.flush")
+                .description("Tempo de gravação de cada batch de histórico")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        recordedCounter = registry.counter("proactiva.history.recorded");
+        droppedCounter = registry.counter("proactiva.history.dropped");
+        failedCounter = registry.counter("proactiva.history.failed");
+        writeErrorCounter = registry.counter("proactiva.history.write.errors");
+        callerRunsCounter = registry.counter("proactiva.history.caller.runs");
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "task-history-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+
+        flusher.interrupt();
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Garante que nada fique na fila caso o flusher não tenha terminado a tempo
+        List<TaskHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * Enfileira um registro de histórico para gravação assíncrona. Nunca lança exceção:
+     * falhas de gravação são contabilizadas, como já acontecia com o histórico síncrono.
+     *
+     * @param history histórico a ser gravado
+     */
+    public void record(TaskHistory history) {
+        if (running && queue.offer(history)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP:
+                droppedCounter.increment();
+                LOG.warnf("Fila de histórico cheia, registro descartado para a tarefa %d", history.getTaskId());
+                return;
+            case BLOCK:
+                try {
+                    if (running && queue.offer(history, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writeNow(history);
+                return;
+            case CALLER_RUNS:
+            default:
+                writeNow(history);
+        }
+    }
+
+    /**
+     * Quantidade de registros aguardando gravação.
+     */
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    private void writeNow(TaskHistory history) {
+        callerRunsCounter.increment();
+        flush(List.of(history));
+    }
+
+    private void runFlusher() {
+        List<TaskHistory> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskHistory first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Acumula até completar o batch ou até o intervalo de flush expirar
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    TaskHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Desligamento: segue gravando o que já foi retirado da fila
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<TaskHistory> batch) {
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                backoff(attempt);
+            }
+
+            long start = System.nanoTime();
+            try {
+                taskHistoryDAO.createBatch(batch);
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                recordedCounter.increment(batch.size());
+                return;
+            } catch (SQLException e) {
+                writeErrorCounter.increment();
+                LOG.warnf(e, "Erro ao gravar histórico (tentativa %d de %d, %d registros)",
+                        attempt, MAX_FLUSH_ATTEMPTS, batch.size());
+            }
+        }
+
+        if (batch.size() == 1) {
+            failedCounter.increment();
+            return;
+        }
+        flushOneByOne(batch);
+    }
+
+    /**
+     * Grava os registros individualmente depois que o batch esgotou as tentativas; só os que
+     * falharem são descartados.
+     */
+    private void flushOneByOne(List<TaskHistory> batch) {
+        int failed = 0;
+        for (TaskHistory history : batch) {
+            try {
+                taskHistoryDAO.create(history);
+                recordedCounter.increment();
+            } catch (SQLException e) {
+                writeErrorCounter.increment();
+                failed++;
+                LOG.errorf(e, "Histórico descartado para a tarefa %d", history.getTaskId());
+            }
+        }
+        failedCounter.increment(failed);
+    }
+
+    /**
+     * Espera antes da tentativa: {@code retryBackoff} antes da segunda, o dobro antes da terceira.
+     * No desligamento (thread interrompida) segue sem esperar.
+     */
+    private void backoff(int attempt) {
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        try {
+            Thread.sleep(retryBackoff.toMillis() << (attempt - 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
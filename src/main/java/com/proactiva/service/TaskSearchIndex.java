@@ -0,0 +1,406 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.TaskDAO;
+import com.proactiva.dto.TaskSearchResult;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice invertido em memória sobre título e descrição das tarefas, particionado por usuário.
+ *
+ * Na inicialização o índice é montado em segundo plano a partir de {@link TaskDAO#streamAll}; até
+ * terminar, as buscas respondem 503. Se a carga falhar (banco fora do ar, por exemplo), ela é repetida
+ * com espera crescente até dar certo, e a situação aparece em /api/health ({@link #loadStatus()}). Depois disso o TaskBO mantém o índice a cada criação,
+ * alteração ou exclusão confirmada, sem consultar o banco.
+ *
+ * Cada alteração leva a versão de {@link TaskVersions}: se duas ações pós-commit da mesma tarefa
+ * chegarem fora de ordem, a mais antiga é ignorada. Exclusões deixam a versão registrada para que
+ * uma atualização atrasada (ou a carga inicial) não traga a tarefa de volta; depois da carga, essas
+ * versões são esquecidas quando nenhuma ação atrasada pode mais chegar.
+ *
+ * A relevância é calculada com BM25; termos do título valem {@link #TITLE_WEIGHT} vezes mais que
+ * os da descrição. Todas as palavras da consulta precisam aparecer na tarefa.
+ *
+ * Cada usuário também tem um {@link TitlePrefixIndex} com os títulos, para as sugestões por prefixo
+ * do formulário de criação; ele é mantido junto com o índice invertido, com as mesmas versões.
+ */
+@ApplicationScoped
+public class TaskSearchIndex {
+
+    private static final Logger LOG = Logger.getLogger(TaskSearchIndex.class);
+
+    /**
+     * Peso de uma ocorrência no título em relação a uma ocorrência na descrição.
+     */
+    static final int TITLE_WEIGHT = 3;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    /**
+     * Espera máxima entre duas tentativas de carga.
+     */
+    static final Duration MAX_REBUILD_BACKOFF = Duration.ofMinutes(1);
+
+    /**
+     * Exclusões registradas por usuário a partir das quais as versões antigas são esquecidas.
+     */
+    private static final int MIN_PRUNE_SIZE = 64;
+
+    @Inject
+    TaskDAO taskDAO;
+
+    @Inject
+    TaskVersions taskVersions;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "proactiva.search.rebuild-on-startup", defaultValue = "true")
+    boolean rebuildOnStartup;
+
+    @ConfigProperty(name = "proactiva.search.rebuild-backoff", defaultValue = "1s")
+    Duration rebuildBackoff;
+
+    private final Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    private final AtomicLong documents = new AtomicLong();
+    private final LoadStatus loadStatus = new LoadStatus();
+
+    void onStart(@Observes StartupEvent event) {
+        Gauge.builder("proactiva.search.index.documents", documents, AtomicLong::get)
+                .description("Tarefas no índice de busca")
+                .register(registry);
+
+        if (!rebuildOnStartup) {
+            // Só as tarefas criadas ou alteradas a partir de agora entram no índice
+            loadStatus.loaded();
+            return;
+        }
+
+        Thread indexer = new Thread(this::rebuildUntilLoaded, "task-search-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+    }
+
+    /**
+     * Repete {@link #rebuild()} até a carga dar certo, esperando {@code rebuildBackoff} antes da
+     * segunda tentativa e o dobro a cada nova falha, até {@link #MAX_REBUILD_BACKOFF}. No
+     * desligamento (thread interrompida) desiste.
+     */
+    void rebuildUntilLoaded() {
+        long backoffMillis = rebuildBackoff.toMillis();
+        while (!rebuild()) {
+            LOG.warnf("Nova tentativa de carregar o índice de busca em %d ms", backoffMillis);
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_REBUILD_BACKOFF.toMillis());
+        }
+    }
+
+    /**
+     * Carrega no índice todas as tarefas do banco. Tarefas já indexadas (ou excluídas) por
+     * alterações concorrentes, ou por uma tentativa anterior que falhou no meio, são mantidas
+     * como estão.
+     *
+     * @return true se a carga terminou; false se falhou e precisa ser repetida
+     */
+    boolean rebuild() {
+        long startedAt = System.nanoTime();
+        try {
+            taskDAO.streamAll(task -> partition(task.getUserId()).index(task, TaskVersions.LOAD_VERSION));
+            loadStatus.loaded();
+            LOG.infof("Índice de busca carregado: %d tarefas em %d ms", documents.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return true;
+        } catch (SQLException | IOException | RuntimeException e) {
+            // Sem a carga completa a busca ficaria incompleta; continua indisponível (503)
+            loadStatus.failed(e);
+            LOG.error("Erro ao carregar o índice de busca", e);
+            return false;
+        }
+    }
+
+    /**
+     * Situação da carga inicial do índice.
+     */
+    public LoadStatus loadStatus() {
+        return loadStatus;
+    }
+
+    /**
+     * Indexa (ou reindexa) uma tarefa criada ou alterada.
+     *
+     * @param task tarefa com título e descrição completos
+     * @param version versão obtida com {@link TaskVersions#next()}
+     */
+    public void index(Task task, long version) {
+        partition(task.getUserId()).index(task, version);
+    }
+
+    /**
+     * Remove uma tarefa excluída.
+     *
+     * @param task tarefa excluída
+     * @param version versão obtida com {@link TaskVersions#next()}
+     */
+    public void remove(Task task, long version) {
+        partition(task.getUserId()).remove(task.getId(), version);
+    }
+
+    /**
+     * Busca nas tarefas de um usuário.
+     *
+     * @param userId ID do usuário
+     * @param query texto da busca
+     * @param limit quantidade máxima de resultados
+     * @return resultados, do mais relevante para o menos relevante
+     * @throws ServiceBusyException se o índice ainda estiver sendo carregado
+     */
+    public List<TaskSearchResult> search(Long userId, String query, int limit) {
+        if (!loadStatus.isReady()) {
+            throw new ServiceBusyException("Índice de busca em carregamento", RETRY_AFTER_SECONDS);
+        }
+
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.terms(query)));
+        UserIndex index = users.get(userId);
+        if (terms.isEmpty() || index == null) {
+            return List.of();
+        }
+        return index.search(terms, limit);
+    }
+
+    /**
+     * Títulos de tarefas do usuário que começam com o prefixo, dos mais recentes para os mais antigos.
+     *
+     * @param userId ID do usuário
+     * @param prefix prefixo digitado
+     * @param limit quantidade máxima de títulos
+     * @return títulos distintos
+     * @throws ServiceBusyException se o índice ainda estiver sendo carregado
+     */
+    public List<String> suggest(Long userId, String prefix, int limit) {
+        if (!loadStatus.isReady()) {
+            throw new ServiceBusyException("Índice de busca em carregamento", RETRY_AFTER_SECONDS);
+        }
+
+        UserIndex index = users.get(userId);
+        if (index == null) {
+            return List.of();
+        }
+        return index.suggest(prefix, limit);
+    }
+
+    private UserIndex partition(Long userId) {
+        return users.computeIfAbsent(userId, id -> new UserIndex());
+    }
+
+    /**
+     * Tarefa guardada no índice: os campos devolvidos na busca, sem a descrição completa.
+     */
+    static Task summaryOf(Task task) {
+        Task summary = new Task(task.getUserId(), task.getTitle(), null, task.getCategory(),
+                task.getPriority(), task.getStatus(), task.getDueDate());
+        summary.setId(task.getId());
+        summary.setCompletedAt(task.getCompletedAt());
+        summary.setCreatedAt(task.getCreatedAt());
+        summary.setUpdatedAt(task.getUpdatedAt());
+
+        String description = task.getDescription();
+        if (description != null) {
+            summary.setDescriptionPreview(description.length() <= TaskDAO.DESCRIPTION_PREVIEW_LENGTH
+                    ? description
+                    : description.substring(0, TaskDAO.DESCRIPTION_PREVIEW_LENGTH));
+        }
+        return summary;
+    }
+
+    /**
+     * Recência usada nas sugestões: na carga inicial, a última alteração gravada no banco; nas
+     * alterações feitas por esta instância, o momento da indexação (o objeto não traz o UPDATED_AT
+     * gerado pelo banco).
+     */
+    private static long lastUsed(Task task, long version) {
+        LocalDateTime lastUsed = version == TaskVersions.LOAD_VERSION && task.getUpdatedAt() != null
+                ? task.getUpdatedAt()
+                : LocalDateTime.now();
+        return lastUsed.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Tarefa indexada, com as frequências (já ponderadas) usadas para removê-la das listas.
+     */
+    private static final class Document {
+
+        final Task task;
+        final Map<String, Integer> frequencies;
+        final int length;
+        final long version;
+
+        Document(Task task, Map<String, Integer> frequencies, int length, long version) {
+            this.task = task;
+            this.frequencies = frequencies;
+            this.length = length;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Índice das tarefas de um usuário. Leituras e escritas de um mesmo usuário são serializadas;
+     * usuários diferentes não competem entre si.
+     */
+    private final class UserIndex {
+
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Document> indexed = new HashMap<>();
+        private final AppliedVersions deletedVersions = new AppliedVersions(taskVersions, MIN_PRUNE_SIZE);
+        private final TitlePrefixIndex titles = new TitlePrefixIndex();
+        private long totalLength;
+
+        synchronized void index(Task task, long version) {
+            Long id = task.getId();
+            if (version <= knownVersion(id)) {
+                return;
+            }
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String term : TextAnalyzer.terms(task.getTitle())) {
+                frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+            }
+            for (String term : TextAnalyzer.terms(task.getDescription())) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+            int length = 0;
+            for (int frequency : frequencies.values()) {
+                length += frequency;
+            }
+
+            unlink(id);
+            deletedVersions.remove(id);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(id, entry.getValue());
+            }
+            Task summary = summaryOf(task);
+            indexed.put(id, new Document(summary, frequencies, length, version));
+            titles.add(summary.getTitle(), id, lastUsed(task, version));
+            totalLength += length;
+            documents.incrementAndGet();
+        }
+
+        synchronized void remove(Long id, long version) {
+            if (version <= knownVersion(id)) {
+                return;
+            }
+            unlink(id);
+            deletedVersions.put(id, version);
+            if (loadStatus.isReady()) {
+                deletedVersions.prune();
+            }
+        }
+
+        synchronized List<TaskSearchResult> search(List<String> terms, int limit) {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // Percorre a lista mais curta e confere as demais
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int count = indexed.size();
+            double averageLength = (double) totalLength / count;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int frequency = lists.get(i).size();
+                idf[i] = Math.log(1 + (count - frequency + 0.5) / (frequency + 0.5));
+            }
+
+            Comparator<TaskSearchResult> byRelevance = Comparator.comparingDouble(TaskSearchResult::getScore)
+                    .thenComparing(result -> result.getTask().getId());
+            PriorityQueue<TaskSearchResult> top = new PriorityQueue<>(limit + 1, byRelevance);
+
+            candidates:
+            for (Long id : lists.get(0).keySet()) {
+                Document document = indexed.get(id);
+                double norm = K1 * (1 - B + B * document.length / averageLength);
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Integer frequency = lists.get(i).get(id);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * frequency * (K1 + 1) / (frequency + norm);
+                }
+
+                top.offer(new TaskSearchResult(score, document.task));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<TaskSearchResult> results = new ArrayList<>(top);
+            results.sort(byRelevance.reversed());
+            return results;
+        }
+
+        synchronized List<String> suggest(String prefix, int limit) {
+            return titles.suggest(prefix, limit);
+        }
+
+        private long knownVersion(Long id) {
+            Document document = indexed.get(id);
+            if (document != null) {
+                return document.version;
+            }
+            return deletedVersions.get(id);
+        }
+
+        private void unlink(Long id) {
+            Document previous = indexed.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.frequencies.keySet()) {
+                Map<Long, Integer> list = postings.get(term);
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            titles.remove(previous.task.getTitle(), id);
+            totalLength -= previous.length;
+            documents.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.UnitOfWork;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.TreeSet;
+
+/**
+ * Versões das alterações de tarefas, usadas pelas estruturas em memória mantidas pelo TaskBO
+ * após o commit (índice de busca, prazos e feed de eventos).
+ *
+ * O TaskBO obtém a versão dentro da transação, depois do bloqueio da linha, e a repassa para
+ * todas as ações pós-commit da alteração. Cada estrutura guarda a última versão aplicada por
+ * tarefa ({@link AppliedVersions}) e ignora uma ação da mesma tarefa que chegue depois de outra
+ * mais recente.
+ *
+ * Uma versão fica "em andamento" até o fim da unidade de trabalho que a obteve (commit, ações
+ * pós-commit ou rollback). Uma versão aplicada menor que todas as que estão em andamento já não
+ * pode ser contrariada por nenhuma ação atrasada e pode ser esquecida.
+ */
+@ApplicationScoped
+public class TaskVersions {
+
+    /**
+     * Versão das tarefas lidas nas cargas iniciais: perde para qualquer alteração já aplicada.
+     */
+    public static final long LOAD_VERSION = 0;
+
+    @Inject
+    UnitOfWork unitOfWork;
+
+    // Protegidos pelo monitor da instância
+    private long last = LOAD_VERSION;
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+
+    /**
+     * Versão de uma alteração. Deve ser obtida dentro da transação, depois do bloqueio da linha.
+     *
+     * @return versão maior que todas as anteriores
+     */
+    public long next() {
+        long version;
+        synchronized (this) {
+            version = ++last;
+            inFlight.add(version);
+        }
+        unitOfWork.afterCompletion(() -> release(version));
+        return version;
+    }
+
+    /**
+     * Menor versão cujas ações pós-commit ainda podem chegar.
+     *
+     * @return a menor versão em andamento, ou a próxima versão se não houver nenhuma
+     */
+    synchronized long oldestInFlight() {
+        return inFlight.isEmpty() ? last + 1 : inFlight.first();
+    }
+
+    private synchronized void release(long version) {
+        inFlight.remove(version);
+    }
+}
@@ -0,0 +1,71 @@
+package com.proactiva.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Quebra títulos, descrições e consultas em termos para o índice de busca.
+ *
+ * Os termos são minúsculos e sem acentos ("Reunião" e "reuniao" são o mesmo termo); letras e
+ * dígitos formam os termos e todo o resto é separador. Termos de uma letra e palavras muito
+ * comuns em português são descartados.
+ */
+final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "de", "da", "do", "das", "dos", "e", "em", "no", "na", "nos", "nas", "um", "uma",
+            "os", "as", "ao", "aos", "para", "por", "com", "sem", "que", "se", "ou", "the", "of", "to");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Termos do texto, na ordem em que aparecem (com repetições).
+     *
+     * @param text texto a ser analisado (pode ser null)
+     * @return lista de termos
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = fold(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Minúsculas e sem acentos.
+     */
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static void addTerm(List<String> terms, String term) {
+        if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+            terms.add(term);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.proactiva.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo hierárquica: agenda prazos com custo O(1) para inserir e cancelar, e avança tick a
+ * tick sem percorrer os prazos que ainda estão longe.
+ *
+ * São {@link #LEVELS} níveis de {@link #SLOTS} posições. No nível 0 cada posição vale um tick; em
+ * cada nível acima, uma posição cobre uma volta inteira do nível de baixo. Quando o nível de baixo
+ * completa a volta, a posição correspondente do nível de cima é redistribuída ("cascata"). Com
+ * tick de 1 segundo, o alcance é de 64^4 segundos (cerca de 194 dias); prazos mais distantes ficam
+ * na última posição alcançável e são recolocados quando ela é redistribuída.
+ *
+ * Não é thread-safe: o acesso é serializado por quem usa a roda.
+ *
+ * @param <T> conteúdo entregue quando o prazo vence
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+
+    private static final long SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Timeout<T>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis duração de um tick em milissegundos
+     * @param startMillis instante inicial (tick atual)
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.buckets = new Timeout[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                // Sentinela da lista duplamente encadeada da posição
+                Timeout<T> head = new Timeout<>(0, null);
+                head.previous = head;
+                head.next = head;
+                buckets[level][slot] = head;
+            }
+        }
+    }
+
+    /**
+     * Agenda um prazo. Prazos já vencidos disparam no próximo tick.
+     *
+     * @param deadlineMillis instante do prazo, em milissegundos
+     * @param value conteúdo entregue no vencimento
+     * @return referência para cancelamento
+     */
+    Timeout<T> schedule(long deadlineMillis, T value) {
+        // Arredonda para cima: o prazo nunca dispara antes da hora
+        Timeout<T> timeout = new Timeout<>(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), value);
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancela um prazo agendado. Não faz nada se ele já venceu ou foi cancelado.
+     */
+    void cancel(Timeout<T> timeout) {
+        if (timeout != null && timeout.isScheduled()) {
+            timeout.unlink();
+            size--;
+        }
+    }
+
+    /**
+     * Avança a roda até o instante informado, entregando os prazos vencidos em ordem de tick.
+     *
+     * @param nowMillis instante atual, em milissegundos
+     * @param expired recebe o conteúdo de cada prazo vencido
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Desce primeiro os níveis mais altos, para que seus prazos caiam nas posições de baixo
+            // antes delas serem redistribuídas ou vencidas
+            for (int level = LEVELS - 1; level > 0; level--) {
+                long levelMask = (1L << (SLOT_BITS * level)) - 1;
+                if ((currentTick & levelMask) == 0) {
+                    cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+                }
+            }
+
+            Timeout<T> head = buckets[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                Timeout<T> timeout = head.next;
+                timeout.unlink();
+                if (timeout.deadlineTick > currentTick) {
+                    // Prazo além do alcance, recolocado até chegar a vez dele
+                    place(timeout, currentTick + 1);
+                } else {
+                    size--;
+                    expired.accept(timeout.value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Quantidade de prazos agendados.
+     */
+    int size() {
+        return size;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout<T> head = buckets[level][slot];
+        while (head.next != head) {
+            Timeout<T> timeout = head.next;
+            timeout.unlink();
+            // Um prazo do tick atual cai na posição de nível 0 que ainda vai ser vencida neste tick
+            place(timeout, currentTick);
+        }
+    }
+
+    /**
+     * @param earliestTick primeiro tick em que o prazo pode vencer
+     */
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long deadlineTick = Math.max(timeout.deadlineTick, earliestTick);
+        long delay = Math.min(deadlineTick - currentTick, MAX_DELAY_TICKS);
+        long targetTick = currentTick + delay;
+
+        int level = 0;
+        while (delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((targetTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        Timeout<T> head = buckets[level][slot];
+        timeout.previous = head.previous;
+        timeout.next = head;
+        head.previous.next = timeout;
+        head.previous = timeout;
+    }
+
+    /**
+     * Prazo agendado: nó da lista da posição em que está.
+     */
+    static final class Timeout<T> {
+
+        final long deadlineTick;
+        final T value;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(long deadlineTick, T value) {
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+
+        boolean isScheduled() {
+            return next != null;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.proactiva.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Títulos de tarefas de um usuário ordenados pelo título normalizado (minúsculo e sem acentos),
+ * para sugestões por prefixo.
+ *
+ * Em vez de uma árvore de nós, as entradas ficam em arrays paralelos ordenados: um prefixo
+ * corresponde a uma faixa contígua, localizada por busca binária, e títulos iguais ficam lado a
+ * lado. Inserção e remoção deslocam o final dos arrays, o que é barato no volume de tarefas de
+ * um usuário.
+ *
+ * Orçamento de memória por tarefa: 24 bytes de slots (duas referências e dois longs, com
+ * referências comprimidas), até 1,5x com a folga de crescimento dos arrays, mais o título
+ * normalizado quando ele difere do original (cerca de 40 + n bytes para n caracteres Latin-1).
+ * O título original é o mesmo objeto guardado na tarefa indexada e não é copiado. Para títulos
+ * de até 60 caracteres, o total fica abaixo de 140 bytes por tarefa.
+ *
+ * Não é thread-safe: o acesso é serializado pelo índice do usuário.
+ */
+final class TitlePrefixIndex {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private long[] taskIds = new long[INITIAL_CAPACITY];
+    private long[] recency = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adiciona o título de uma tarefa.
+     *
+     * @param title título original
+     * @param taskId ID da tarefa
+     * @param lastUsed instante da última alteração, em milissegundos (maior é mais recente)
+     */
+    void add(String title, long taskId, long lastUsed) {
+        String key = key(title);
+        int position = position(key, taskId);
+        if (position >= 0) {
+            titles[position] = title;
+            recency[position] = lastUsed;
+            return;
+        }
+
+        int insertAt = -position - 1;
+        if (size == keys.length) {
+            int capacity = size + (size >> 1);
+            keys = Arrays.copyOf(keys, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            taskIds = Arrays.copyOf(taskIds, capacity);
+            recency = Arrays.copyOf(recency, capacity);
+        }
+        int moved = size - insertAt;
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, moved);
+        System.arraycopy(titles, insertAt, titles, insertAt + 1, moved);
+        System.arraycopy(taskIds, insertAt, taskIds, insertAt + 1, moved);
+        System.arraycopy(recency, insertAt, recency, insertAt + 1, moved);
+
+        keys[insertAt] = key;
+        titles[insertAt] = title;
+        taskIds[insertAt] = taskId;
+        recency[insertAt] = lastUsed;
+        size++;
+    }
+
+    /**
+     * Remove o título de uma tarefa.
+     *
+     * @param title título com que a tarefa foi adicionada
+     * @param taskId ID da tarefa
+     */
+    void remove(String title, long taskId) {
+        int position = position(key(title), taskId);
+        if (position < 0) {
+            return;
+        }
+
+        int moved = size - position - 1;
+        System.arraycopy(keys, position + 1, keys, position, moved);
+        System.arraycopy(titles, position + 1, titles, position, moved);
+        System.arraycopy(taskIds, position + 1, taskIds, position, moved);
+        System.arraycopy(recency, position + 1, recency, position, moved);
+        size--;
+        keys[size] = null;
+        titles[size] = null;
+    }
+
+    /**
+     * Títulos distintos que começam com o prefixo, dos usados mais recentemente para os mais antigos.
+     *
+     * @param prefix prefixo digitado (sem distinção de maiúsculas e acentos)
+     * @param limit quantidade máxima de títulos
+     * @return títulos sugeridos
+     */
+    List<String> suggest(String prefix, int limit) {
+        String folded = TextAnalyzer.fold(prefix);
+
+        // Mínimo heap com os melhores títulos encontrados: posição do mais recente de cada grupo
+        Comparator<Integer> byRecency = Comparator.comparingLong(index -> recency[index]);
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, byRecency);
+
+        int index = lowerBound(folded);
+        while (index < size && keys[index].startsWith(folded)) {
+            // Títulos iguais (mesma chave) estão em sequência; fica só o mais recente
+            int best = index;
+            int next = index + 1;
+            while (next < size && keys[next].equals(keys[index])) {
+                if (recency[next] > recency[best]) {
+                    best = next;
+                }
+                next++;
+            }
+
+            top.offer(best);
+            if (top.size() > limit) {
+                top.poll();
+            }
+            index = next;
+        }
+
+        List<Integer> positions = new ArrayList<>(top);
+        positions.sort(byRecency.reversed());
+        List<String> suggestions = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            suggestions.add(titles[position]);
+        }
+        return suggestions;
+    }
+
+    private static String key(String title) {
+        String folded = TextAnalyzer.fold(title == null ? "" : title.strip());
+        // Evita uma segunda cópia quando o título já está normalizado
+        return folded.equals(title) ? title : folded;
+    }
+
+    /**
+     * Posição da entrada (chave, tarefa) ou, se não existir, {@code -(ponto de inserção) - 1}.
+     */
+    private int position(String key, long taskId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = keys[mid].compareTo(key);
+            if (comparison == 0) {
+                comparison = Long.compare(taskIds[mid], taskId);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Primeira posição cuja chave é maior ou igual ao prefixo.
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,24 +1,122 @@
 package com.proactiva.service;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.proactiva.model.User;
-import io.smallrye.jwt.build.Jwt;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Set;
+import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Emissão dos tokens JWT de login e cadastro.
+ *
+ * As claims constantes (issuer e grupos) são serializadas uma única vez; por token só são
+ * montadas as claims do usuário e as datas, e a assinatura usa a chave já carregada pelo
+ * {@link JwtSigner}. Opcionalmente, um token ainda recente do mesmo usuário é reaproveitado
+ * ({@code proactiva.jwt.reuse-window}, desativado por padrão).
+ */
 @ApplicationScoped
 public class TokenService {
 
+    private static final JsonStringEncoder JSON = JsonStringEncoder.getInstance();
+
+    @Inject
+    JwtSigner jwtSigner;
+
+    @ConfigProperty(name = "proactiva.jwt.issuer", defaultValue = "proactiva-issuer")
+    String issuer;
+
+    @ConfigProperty(name = "proactiva.jwt.lifetime", defaultValue = "24h")
+    Duration lifetime;
+
+    @ConfigProperty(name = "proactiva.jwt.reuse-window", defaultValue = "0s")
+    Duration reuseWindow;
+
+    @ConfigProperty(name = "proactiva.jwt.reuse.maximum-size", defaultValue = "10000")
+    long reuseMaximumSize;
+
+    private String claimsTemplate;
+    private Cache<Long, IssuedToken> issuedTokens;
+
+    @PostConstruct
+    void init() {
+        // Claims iguais em todos os tokens
+        claimsTemplate = "{\"iss\":\"" + new String(JSON.quoteAsString(issuer)) + "\",\"groups\":[\"user\"]";
+
+        // A janela de reaproveitamento precisa ser menor que a validade do token
+        if (!reuseWindow.isZero() && reuseWindow.compareTo(lifetime) < 0) {
+            issuedTokens = Caffeine.newBuilder()
+                    .maximumSize(reuseMaximumSize)
+                    .expireAfterWrite(reuseWindow)
+                    .build();
+        }
+    }
+
     public String generateToken(User user) {
-        // Define o tempo de expiração do token (ex: 24 horas)
-        long duration = Duration.ofHours(24).toSeconds();
-
-        return Jwt.issuer("proactiva-issuer")
-                .subject(user.getUsername())
-                .upn(user.getEmail())
-                .groups(Set.of("user")) // Define o grupo/role
-                .expiresIn(duration)
-                .claim("userId", user.getId()) // Adiciona o ID do usuário como claim
-                .sign();
+        if (issuedTokens != null && user.getId() != null) {
+            IssuedToken issued = issuedTokens.getIfPresent(user.getId());
+            if (issued != null && issued.isFor(user)) {
+                return issued.token;
+            }
+        }
+
+        String token = mint(user);
+
+        if (issuedTokens != null && user.getId() != null) {
+            issuedTokens.put(user.getId(), new IssuedToken(user.getUsername(), user.getEmail(), token));
+        }
+        return token;
+    }
+
+    /**
+     * Monta e assina um novo token com as mesmas claims emitidas antes pelo builder do SmallRye:
+     * iss, groups, sub, upn, userId, iat, exp e jti.
+     */
+    private String mint(User user) {
+        long issuedAt = System.currentTimeMillis() / 1000;
+
+        StringBuilder claims = new StringBuilder(256).append(claimsTemplate);
+        appendString(claims, "sub", user.getUsername());
+        appendString(claims, "upn", user.getEmail());
+        if (user.getId() != null) {
+            claims.append(",\"userId\":").append(user.getId()); // ID do usuário como claim
+        }
+        claims.append(",\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(issuedAt + lifetime.toSeconds())
+                .append(",\"jti\":\"").append(UUID.randomUUID()).append("\"}");
+
+        return jwtSigner.sign(claims.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendString(StringBuilder claims, String name, String value) {
+        if (value != null) {
+            claims.append(",\"").append(name).append("\":\"").append(JSON.quoteAsString(value)).append('"');
+        }
+    }
+
+    /**
+     * Token emitido recentemente, com os dados do usuário que entraram nas claims.
+     */
+    private static final class IssuedToken {
+
+        final String username;
+        final String email;
+        final String token;
+
+        IssuedToken(String username, String email, String token) {
+            this.username = username;
+            this.email = email;
+            this.token = token;
+        }
+
+        boolean isFor(User user) {
+            return Objects.equals(username, user.getUsername()) && Objects.equals(email, user.getEmail());
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.proactiva.cache;
+
+import com.proactiva.dto.TaskStats;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskStatsCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private TaskStatsCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskStatsCache();
+        cache.registry = new SimpleMeterRegistry();
+        cache.enabled = true;
+        cache.maximumSize = 100;
+        cache.expireAfterLoad = Duration.ofMinutes(10);
+        cache.init();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void appliesDeltaCreatedAfterLoadCompleted() throws Exception {
+        cache.get(USER_ID, () -> stats(0));
+
+        cache.apply(TaskStatsCache.Delta.created(task()));
+
+        TaskStats current = cache.get(USER_ID, () -> stats(99));
+        assertEquals(1, current.getTotal());
+        assertEquals(Map.of("EM_ANDAMENTO", 1L), current.getByStatus());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void dropsEntryWhenLoadStartedBeforeDeltaButReadAfterCommit() throws Exception {
+        AtomicReference<TaskStatsCache.Delta> delta = new AtomicReference<>();
+
+        // O carregamento começa, a transação cria o delta e confirma, e só então o GROUP BY lê
+        cache.get(USER_ID, () -> {
+            delta.set(TaskStatsCache.Delta.created(task()));
+            return stats(1);
+        });
+        cache.apply(delta.get());
+
+        TaskStats current = cache.get(USER_ID, () -> stats(1));
+        assertEquals(1, current.getTotal());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void removesCountsThatReachZero() throws Exception {
+        cache.get(USER_ID, () -> stats(1));
+
+        cache.apply(TaskStatsCache.Delta.deleted(task()));
+
+        TaskStats current = cache.get(USER_ID, () -> stats(99));
+        assertEquals(0, current.getTotal());
+        assertEquals(Map.of(), current.getByStatus());
+        assertEquals(Map.of(), current.getByCategory());
+        assertEquals(Map.of(), current.getByPriority());
+    }
+
+    private TaskStats stats(long pending) {
+        loads.incrementAndGet();
+        if (pending == 0) {
+            return new TaskStats(0, Map.of(), Map.of(), Map.of());
+        }
+        return new TaskStats(pending, Map.of("EM_ANDAMENTO", pending), Map.of("TRABALHO", pending),
+                Map.of("ALTA", pending));
+    }
+
+    private static Task task() {
+        return new Task(USER_ID, "Relatório", null, "TRABALHO", "ALTA", "EM_ANDAMENTO", null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.proactiva.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequenceIdAllocatorTest {
+
+    private static final String SEQUENCE = "TASKS_SEQ";
+
+    private SequenceIdAllocator allocator;
+    private FakeSequence sequence;
+    private Connection conn;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new SequenceIdAllocator();
+        sequence = new FakeSequence();
+        conn = sequence.connection();
+    }
+
+    @Test
+    void handsOutWholeBlockPerNextval() throws Exception {
+        sequence.incrementBy = 50L;
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ids.add(allocator.nextId(conn, SEQUENCE));
+        }
+
+        assertEquals(1L, ids.get(0));
+        assertEquals(50L, ids.get(49));
+        assertEquals(51L, ids.get(50));
+        assertEquals(2, sequence.nextvalCalls);
+    }
+
+    @Test
+    void followsLoweredIncrementOnNextRefill() throws Exception {
+        sequence.incrementBy = 50L;
+        for (int i = 0; i < 50; i++) {
+            allocator.nextId(conn, SEQUENCE);
+        }
+
+        // ALTER SEQUENCE TASKS_SEQ INCREMENT BY 1, com o bloco [1, 50] já consumido
+        sequence.value = 100;
+        sequence.incrementBy = 1L;
+
+        Set<Long> thisNode = new HashSet<>();
+        Set<Long> otherNode = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            thisNode.add(allocator.nextId(conn, SEQUENCE));
+            otherNode.add(sequence.nextval());
+        }
+
+        assertEquals(20, thisNode.size());
+        for (Long id : thisNode) {
+            assertTrue(!otherNode.contains(id), "ID " + id + " entregue pelos dois nós");
+        }
+    }
+
+    @Test
+    void missingSequenceMetadataFallsBackToSingleIds() throws Exception {
+        sequence.incrementBy = null;
+
+        assertEquals(1L, allocator.nextId(conn, SEQUENCE));
+        assertEquals(2L, allocator.nextId(conn, SEQUENCE));
+        assertEquals(2, sequence.nextvalCalls);
+    }
+
+    /**
+     * Sequence do Oracle em memória, exposta por uma conexão JDBC mínima que só responde à consulta
+     * de NEXTVAL do alocador.
+     */
+    private static final class FakeSequence {
+
+        long value;
+        Long incrementBy = 1L;
+        boolean started;
+        int nextvalCalls;
+
+        long nextval() {
+            value = started ? value + incrementBy() : 1;
+            started = true;
+            return value;
+        }
+
+        private long incrementBy() {
+            return incrementBy == null ? 1 : incrementBy;
+        }
+
+        Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            assertTrue(((String) args[0]).contains(SEQUENCE + ".NEXTVAL"));
+                            return statement();
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private PreparedStatement statement() {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setString":
+                            case "close":
+                                return null;
+                            case "executeQuery":
+                                nextvalCalls++;
+                                return resultSet(nextval(), incrementBy);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private ResultSet resultSet(long nextval, Long increment) {
+            boolean[] read = new boolean[1];
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "next":
+                                boolean hasRow = !read[0];
+                                read[0] = true;
+                                return hasRow;
+                            case "getLong":
+                                // getLong de uma coluna NULL devolve 0
+                                return (int) args[0] == 1 ? nextval : (increment == null ? 0L : increment);
+                            case "close":
+                                return null;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+    }
+}
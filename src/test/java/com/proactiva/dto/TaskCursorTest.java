@@ -0,0 +1,61 @@
+package com.proactiva.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+        TaskCursor cursor = TaskCursor.decode(new TaskCursor(createdAt, 42L).encode());
+
+        assertEquals(createdAt, cursor.getCreatedAt());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void tokenIsUrlSafeWithoutPadding() {
+        String token = new TaskCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 7L).encode();
+
+        assertEquals(-1, token.indexOf('='));
+        assertEquals(-1, token.indexOf('+'));
+        assertEquals(-1, token.indexOf('/'));
+    }
+
+    @Test
+    void roundTripsNullCreatedAt() {
+        TaskCursor cursor = TaskCursor.decode(new TaskCursor(null, 42L).encode());
+
+        assertNull(cursor.getCreatedAt());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void decodesNullCreatedAtFromOlderTokens() {
+        TaskCursor cursor = TaskCursor.decode(token("null,42"));
+
+        assertNull(cursor.getCreatedAt());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode("não é base64"));
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(token("2025-01-01T00:00")));
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(token("ontem,42")));
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(token("2025-01-01T00:00,abc")));
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.proactiva.interceptor;
+
+import com.proactiva.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReactiveConcurrencyLimiterTest {
+
+    private ReactiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ReactiveConcurrencyLimiter();
+        limiter.registry = new SimpleMeterRegistry();
+        limiter.maxConcurrency = 1;
+        limiter.retryAfterSeconds = 1;
+        limiter.onStart(null);
+    }
+
+    @Test
+    void holdsPermitUntilUniCompletes() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        Uni<String> first = limiter.limit(() -> Uni.createFrom().completionStage(pending));
+        first.subscribe().with(item -> { });
+
+        // A consulta ainda não terminou: a permissão continua reservada
+        assertThrows(ServiceBusyException.class,
+                () -> limiter.limit(() -> Uni.createFrom().item("segunda")).await().indefinitely());
+
+        pending.complete("primeira");
+        assertEquals("terceira", limiter.limit(() -> Uni.createFrom().item("terceira")).await().indefinitely());
+    }
+
+    @Test
+    void releasesPermitOnFailureAndCancellation() {
+        assertThrows(IllegalStateException.class, () -> limiter.limit(() -> {
+            throw new IllegalStateException("falha ao montar a consulta");
+        }).await().indefinitely());
+
+        Cancellable cancellable = limiter.limit(() -> Uni.createFrom().nothing()).subscribe().with(item -> { });
+        cancellable.cancel();
+
+        assertEquals("ok", limiter.limit(() -> Uni.createFrom().item("ok")).await().indefinitely());
+    }
+
+    @Test
+    void operationIsOnlyCalledOnSubscription() {
+        AtomicInteger calls = new AtomicInteger();
+        Uni<Integer> uni = limiter.limit(() -> Uni.createFrom().item(calls.incrementAndGet()));
+
+        assertEquals(0, calls.get());
+        assertEquals(1, uni.await().indefinitely());
+        assertEquals(2, uni.await().indefinitely());
+    }
+}
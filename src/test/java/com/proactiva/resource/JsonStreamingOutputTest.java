@@ -0,0 +1,77 @@
+package com.proactiva.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonStreamingOutputTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesCompleteArray() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        stream(JsonStreamingOutput.Format.JSON, 2, false).write(output);
+
+        assertEquals("[{\"id\":1},{\"id\":2}]", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesOneObjectPerLineInNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        stream(JsonStreamingOutput.Format.NDJSON, 2, false).write(output);
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void failedArrayIsNotClosed() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThrows(WebApplicationException.class,
+                () -> stream(JsonStreamingOutput.Format.JSON, 2, true).write(output));
+
+        String written = output.toString(StandardCharsets.UTF_8);
+        // Só a primeira linha (flush imediato) chegou ao cliente, sem o "]" final
+        assertEquals("[{\"id\":1}", written);
+        assertThrows(Exception.class, () -> objectMapper.readTree(written));
+    }
+
+    @Test
+    void failedNdjsonDoesNotFlushBufferedRows() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThrows(WebApplicationException.class,
+                () -> stream(JsonStreamingOutput.Format.NDJSON, 3, true).write(output));
+
+        String written = output.toString(StandardCharsets.UTF_8);
+        assertEquals("{\"id\":1}\n", written);
+        assertFalse(written.contains("\"id\":2"));
+    }
+
+    /**
+     * Stream com {@code rows} linhas, seguidas de um erro de leitura se {@code fail}.
+     */
+    private JsonStreamingOutput<Map<String, Integer>> stream(JsonStreamingOutput.Format format, int rows,
+                                                             boolean fail) {
+        return new JsonStreamingOutput<>(objectMapper, format, handler -> {
+            for (int id = 1; id <= rows; id++) {
+                handler.handle(Map.of("id", id));
+            }
+            if (fail) {
+                throw new SQLException("ORA-03113: end-of-file on communication channel");
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.RowHandler;
+import com.proactiva.dao.TaskDAO;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DueDateSchedulerTest {
+
+    private static final Long USER_ID = 1L;
+
+    private DueDateScheduler scheduler;
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new DueDateScheduler();
+        scheduler.registry = new SimpleMeterRegistry();
+        scheduler.taskVersions = new TaskVersions();
+        scheduler.enabled = true;
+        scheduler.dueSoonWindow = Duration.ofHours(24);
+        scheduler.tick = Duration.ofSeconds(1);
+        scheduler.ticker = Executors.newSingleThreadScheduledExecutor();
+        scheduler.taskDAO = new TaskDAO() {
+            @Override
+            public void streamOpenWithDueDate(RowHandler<Task> handler) throws SQLException, IOException {
+                handler.handle(task(1L));
+                if (attempts.incrementAndGet() < 3) {
+                    throw new SQLException("ORA-03113: end-of-file on communication channel");
+                }
+                handler.handle(task(2L));
+                loaded.countDown();
+            }
+        };
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void failedLoadIsRescheduledUntilItCompletes() throws Exception {
+        assertThrows(ServiceBusyException.class, () -> scheduler.overdue(USER_ID));
+
+        scheduler.ticker.execute(() -> scheduler.loadWithRetry(1));
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+        // A última tentativa marca a carga como concluída logo depois de ler as linhas
+        scheduler.ticker.submit(() -> { }).get();
+
+        LoadStatus status = scheduler.loadStatus().orElseThrow();
+        assertEquals(LoadStatus.State.READY, status.getState());
+        assertEquals(2, status.getFailedAttempts());
+        // A tarefa carregada antes de cada falha não é duplicada
+        assertEquals(List.of(2L, 1L), scheduler.overdue(USER_ID).orElseThrow().stream().map(Task::getId).toList());
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task(USER_ID, "Tarefa " + id, null, "TRABALHO", "ALTA", "EM_ANDAMENTO",
+                LocalDateTime.now().minusDays(id));
+        task.setId(id);
+        return task;
+    }
+}
@@ -0,0 +1,152 @@
+package com.proactiva.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proactiva.dto.TaskChangeEvent;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.jboss.resteasy.reactive.server.jaxrs.SseImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskChangeFeedTest {
+
+    private static final Long BUSY_USER = 1L;
+    private static final Long QUIET_USER = 2L;
+
+    private TaskChangeFeed feed;
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TaskChangeFeed();
+        feed.objectMapper = new ObjectMapper().findAndRegisterModules();
+        feed.taskVersions = new TaskVersions();
+        feed.registry = new SimpleMeterRegistry();
+        feed.replayPerUser = 4;
+        feed.replaySize = 10;
+        feed.maxPending = 1000;
+        feed.maxSubscribers = 10;
+        feed.start();
+    }
+
+    @Test
+    void busyUserDoesNotPushOutOtherUsersEvents() {
+        RecordingSink quiet = subscribe(QUIET_USER, null);
+        publish(QUIET_USER, 100L);
+        String lastSeen = quiet.lastId();
+        publish(QUIET_USER, 101L);
+        for (long id = 1; id <= 3; id++) {
+            publish(BUSY_USER, id);
+        }
+
+        RecordingSink resumed = subscribe(QUIET_USER, lastSeen);
+
+        assertEquals(List.of("updated"), resumed.names());
+    }
+
+    @Test
+    void resetsWhenOwnEventsLeftTheBuffer() {
+        RecordingSink busy = subscribe(BUSY_USER, null);
+        publish(BUSY_USER, 1L);
+        String lastSeen = busy.lastId();
+        for (long id = 2; id <= 6; id++) {
+            publish(BUSY_USER, id);
+        }
+
+        assertEquals(List.of("reset"), subscribe(BUSY_USER, lastSeen).names());
+    }
+
+    @Test
+    void evictsIdleUserBufferWhenTotalLimitIsReached() {
+        RecordingSink quiet = subscribe(QUIET_USER, null);
+        publish(QUIET_USER, 100L);
+        String lastSeen = quiet.lastId();
+        publish(QUIET_USER, 101L);
+
+        // Vários usuários ativos passam do limite total: sai o buffer de quem está parado há mais tempo
+        for (long user = 10; user < 13; user++) {
+            for (long id = 0; id < 4; id++) {
+                publish(user, user * 100 + id);
+            }
+        }
+
+        assertEquals(List.of("reset"), subscribe(QUIET_USER, lastSeen).names());
+        // Quem não tinha nada a receber depois do próprio ID continua sem reset
+        RecordingSink active = subscribe(12L, null);
+        publish(12L, 1299L);
+        assertEquals(List.of(), subscribe(12L, active.lastId()).names());
+    }
+
+    @Test
+    void subscriberLimitIsReservedBeforeRegistering() {
+        feed.maxSubscribers = 1;
+        subscribe(BUSY_USER, null);
+
+        assertThrows(ServiceBusyException.class, () -> subscribe(QUIET_USER, null));
+        assertThrows(ServiceBusyException.class, () -> subscribe(QUIET_USER, null));
+        assertEquals(1, feed.registry.get("proactiva.events.subscribers").gauge().value());
+    }
+
+    private void publish(Long userId, Long taskId) {
+        Task task = new Task(userId, "Tarefa " + taskId, null, "TRABALHO", "ALTA", "EM_ANDAMENTO", null);
+        task.setId(taskId);
+        String type = version % 2 == 0 ? TaskChangeEvent.CREATED : TaskChangeEvent.UPDATED;
+        feed.publish(type, task, ++version);
+    }
+
+    private RecordingSink subscribe(Long userId, String lastEventId) {
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(userId, lastEventId, sink, SseImpl.INSTANCE);
+        return sink;
+    }
+
+    /**
+     * Conexão que guarda os eventos enviados (sem os comentários de conexão e heartbeat).
+     */
+    private static final class RecordingSink implements SseEventSink {
+
+        private final List<OutboundSseEvent> events = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(OutboundSseEvent event) {
+            if (event.getName() != null) {
+                events.add(event);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (OutboundSseEvent event : events) {
+                names.add(event.getName());
+            }
+            return names;
+        }
+
+        String lastId() {
+            return events.get(events.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.proactiva.service;
+
+import com.proactiva.dao.RowHandler;
+import com.proactiva.dao.TaskDAO;
+import com.proactiva.dto.TaskSearchResult;
+import com.proactiva.exception.ServiceBusyException;
+import com.proactiva.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchIndexTest {
+
+    private static final Long USER_ID = 1L;
+
+    private TaskSearchIndex index;
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex();
+        index.registry = new SimpleMeterRegistry();
+        index.taskVersions = new TaskVersions();
+        index.rebuildOnStartup = false;
+        index.onStart(null);
+    }
+
+    @Test
+    void titleMatchRanksAboveDescriptionMatch() {
+        index(1L, "Pagar contas", "Enviar o relatório ao contador");
+        index(2L, "Relatório financeiro", "Fechamento do mês com balancete, extratos, notas fiscais e conciliação bancária");
+
+        List<TaskSearchResult> results = index.search(USER_ID, "relatorio", 10);
+
+        assertEquals(List.of(2L, 1L), ids(results));
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+    }
+
+    @Test
+    void shorterDocumentRanksAboveLongerOneWithSameFrequency() {
+        index(1L, "Reunião", "Levar notebook, projetor, cabos, apresentação, atas, crachás e café");
+        index(2L, "Reunião", null);
+
+        assertEquals(List.of(2L, 1L), ids(index.search(USER_ID, "reunião", 10)));
+    }
+
+    @Test
+    void rareTermWeighsMoreThanCommonTerm() {
+        // "reuniao" aparece em todas as tarefas; "orcamento" só na primeira e na segunda
+        index(1L, "Orçamento anual", "Pauta da reunião");
+        index(2L, "Reunião geral", "Revisar orçamento");
+        index(3L, "Reunião diária", null);
+        index(4L, "Reunião mensal", null);
+        index(5L, "Reunião trimestral", null);
+
+        assertEquals(List.of(1L, 2L), ids(index.search(USER_ID, "reunião orçamento", 10)));
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        index(1L, "Comprar leite", "Mercado do bairro");
+        index(2L, "Comprar pão", "Padaria");
+
+        assertEquals(List.of(1L), ids(index.search(USER_ID, "comprar leite", 10)));
+        assertEquals(List.of(), ids(index.search(USER_ID, "comprar queijo", 10)));
+        // Só palavras descartadas: nenhum termo a buscar
+        assertEquals(List.of(), ids(index.search(USER_ID, "de para com", 10)));
+    }
+
+    @Test
+    void limitKeepsMostRelevant() {
+        index(1L, "Relatório", "relatório relatório");
+        index(2L, "Relatório", null);
+        index(3L, "Outra tarefa", "relatório");
+
+        assertEquals(List.of(1L, 2L), ids(index.search(USER_ID, "relatorio", 2)));
+    }
+
+    @Test
+    void reindexReplacesTermsAndStaleVersionsAreIgnored() {
+        long older = index(1L, "Pagar aluguel", null);
+        index(1L, "Pagar condomínio", null);
+
+        assertEquals(List.of(), ids(index.search(USER_ID, "aluguel", 10)));
+        assertEquals(List.of(1L), ids(index.search(USER_ID, "condominio", 10)));
+
+        // Ação pós-commit atrasada da alteração anterior
+        index.index(task(1L, "Pagar aluguel", null), older);
+        assertEquals(List.of(), ids(index.search(USER_ID, "aluguel", 10)));
+    }
+
+    @Test
+    void removedTaskIsNotRevivedByOlderUpdateOrStartupLoad() {
+        long update = index(1L, "Pagar aluguel", null);
+        index.remove(task(1L, "Pagar aluguel", null), ++version);
+
+        index.index(task(1L, "Pagar aluguel", null), update);
+        index.index(task(1L, "Pagar aluguel", null), TaskVersions.LOAD_VERSION);
+
+        assertEquals(List.of(), ids(index.search(USER_ID, "aluguel", 10)));
+        assertEquals(List.of(), index.suggest(USER_ID, "pag", 10));
+    }
+
+    @Test
+    void usersOnlySeeTheirOwnTasks() {
+        index(1L, "Relatório financeiro", null);
+
+        assertEquals(List.of(), ids(index.search(2L, "relatorio", 10)));
+        assertEquals(List.of(), index.suggest(2L, "rel", 10));
+        assertEquals(List.of("Relatório financeiro"), index.suggest(USER_ID, "rel", 10));
+    }
+
+    @Test
+    void searchIsUnavailableUntilLoaded() {
+        TaskSearchIndex loading = new TaskSearchIndex();
+
+        assertThrows(ServiceBusyException.class, () -> loading.search(USER_ID, "relatorio", 10));
+        assertThrows(ServiceBusyException.class, () -> loading.suggest(USER_ID, "rel", 10));
+    }
+
+    @Test
+    void failedLoadIsRetriedUntilItCompletes() {
+        TaskSearchIndex loading = new TaskSearchIndex();
+        loading.taskVersions = new TaskVersions();
+        loading.rebuildBackoff = Duration.ofMillis(1);
+        loading.taskDAO = new TaskDAO() {
+            private int attempts;
+
+            @Override
+            public void streamAll(RowHandler<Task> handler) throws SQLException, IOException {
+                handler.handle(task(1L, "Relatório financeiro", null));
+                if (++attempts < 3) {
+                    throw new SQLException("ORA-03113: end-of-file on communication channel");
+                }
+                handler.handle(task(2L, "Relatório mensal", null));
+            }
+        };
+
+        loading.rebuildUntilLoaded();
+
+        assertEquals(LoadStatus.State.READY, loading.loadStatus().getState());
+        assertEquals(2, loading.loadStatus().getFailedAttempts());
+        assertNotNull(loading.loadStatus().getLastError());
+        // A tarefa carregada antes de cada falha não é duplicada
+        List<Long> found = ids(loading.search(USER_ID, "relatorio", 10));
+        found.sort(null);
+        assertEquals(List.of(1L, 2L), found);
+    }
+
+    private long index(Long id, String title, String description) {
+        index.index(task(id, title, description), ++version);
+        return version;
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task(USER_ID, title, description, "TRABALHO", "ALTA", "EM_ANDAMENTO", null);
+        task.setId(id);
+        return task;
+    }
+
+    private static List<Long> ids(List<TaskSearchResult> results) {
+        List<Long> ids = new ArrayList<>();
+        for (TaskSearchResult result : results) {
+            ids.add(result.getTask().getId());
+        }
+        return ids;
+    }
+}
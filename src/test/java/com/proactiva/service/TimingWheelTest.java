@@ -0,0 +1,156 @@
+package com.proactiva.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TimingWheelTest {
+
+    @Test
+    void firesAtDeadlineRoundedUpToTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule(1500, "a");
+
+        wheel.advance(1999, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(2000, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 10_000);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule(5_000, "atrasado");
+
+        wheel.advance(10_999, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(11_000, expired::add);
+        assertEquals(List.of("atrasado"), expired);
+    }
+
+    @Test
+    void cascadesFromUpperLevelsOnTheExactTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+        long level1 = TimingWheel.SLOTS;
+        long level2 = level1 * TimingWheel.SLOTS;
+        long level3 = level2 * TimingWheel.SLOTS;
+        long[] deadlines = {1, level1 - 1, level1, level1 + 1, level2 - 1, level2, level2 + 1,
+                level2 + level1 + 3, level3, level3 + 5};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        Map<Long, Long> firedAt = advanceTickByTick(wheel, 0, level3 + 10);
+
+        assertEquals(deadlines.length, firedAt.size());
+        for (long deadline : deadlines) {
+            assertEquals(deadline, firedAt.get(deadline), "prazo " + deadline);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deliversInDeadlineOrderWhenAdvancingManyTicksAtOnce() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+        long[] deadlines = {70_000, 5, 4_096, 64, 300, 4_095, 65};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(100_000, expired::add);
+
+        assertEquals(List.of(5L, 64L, 65L, 300L, 4_095L, 4_096L, 70_000L), expired);
+    }
+
+    @Test
+    void deadlineBeyondRangeIsReplacedUntilDue() {
+        long range = 1L << 24; // 64^4 ticks
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        List<String> expired = new ArrayList<>();
+        long deadline = range + 1_000;
+        wheel.schedule(deadline, "distante");
+
+        wheel.advance(deadline - 1, expired::add);
+        assertEquals(List.of(), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advance(deadline, expired::add);
+        assertEquals(List.of("distante"), expired);
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        List<String> expired = new ArrayList<>();
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(5_000, "cancelado");
+        TimingWheel.Timeout<String> kept = wheel.schedule(5_000, "mantido");
+
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+        assertFalse(cancelled.isScheduled());
+        assertEquals(1, wheel.size());
+
+        wheel.advance(10_000, expired::add);
+        assertEquals(List.of("mantido"), expired);
+
+        // Já vencido: não altera a contagem
+        wheel.cancel(kept);
+        wheel.cancel(null);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void randomDeadlinesFireOnTheirTickFromArbitraryStart() {
+        Random random = new Random(42);
+        long start = 1_234_567;
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, start);
+        Map<Integer, Long> expected = new HashMap<>();
+        Map<Integer, Long> firedAt = new HashMap<>();
+        Map<Integer, TimingWheel.Timeout<Integer>> timeouts = new HashMap<>();
+
+        long now = start;
+        for (int id = 0; id < 2_000; id++) {
+            long deadline = now + 1 + random.nextInt(300_000);
+            timeouts.put(id, wheel.schedule(deadline, id));
+            expected.put(id, deadline);
+            if (id % 10 == 0) {
+                wheel.cancel(timeouts.get(id));
+                expected.remove(id);
+            }
+            if (id % 50 == 0) {
+                long target = now + random.nextInt(5_000);
+                firedAt.putAll(advanceTickByTick(wheel, now, target));
+                now = target;
+            }
+        }
+        firedAt.putAll(advanceTickByTick(wheel, now, now + 400_000));
+
+        assertEquals(expected, firedAt);
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Avança um tick por vez e registra em que tick cada prazo venceu.
+     */
+    private static <T> Map<T, Long> advanceTickByTick(TimingWheel<T> wheel, long from, long to) {
+        Map<T, Long> firedAt = new HashMap<>();
+        for (long tick = from + 1; tick <= to; tick++) {
+            long current = tick;
+            wheel.advance(current, value -> firedAt.put(value, current));
+        }
+        return firedAt;
+    }
+}
@@ -0,0 +1,112 @@
+package com.proactiva.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TitlePrefixIndexTest {
+
+    private TitlePrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitlePrefixIndex();
+    }
+
+    @Test
+    void findsOnlyTitlesStartingWithPrefixMostRecentFirst() {
+        index.add("Relatório mensal", 1, 100);
+        index.add("Revisar contrato", 2, 200);
+        index.add("Reunião com cliente", 3, 300);
+        index.add("Pagar aluguel", 4, 400);
+        index.add("Arquivar notas", 5, 500);
+
+        assertEquals(List.of("Reunião com cliente", "Revisar contrato", "Relatório mensal"), index.suggest("re", 10));
+        assertEquals(List.of("Relatório mensal"), index.suggest("rel", 10));
+        assertEquals(List.of("Arquivar notas"), index.suggest("a", 10));
+        assertEquals(List.of(), index.suggest("x", 10));
+        assertEquals(List.of(), index.suggest("relatório mensal de março", 10));
+    }
+
+    @Test
+    void ignoresCaseAndAccents() {
+        index.add("Reunião semanal", 1, 100);
+
+        assertEquals(List.of("Reunião semanal"), index.suggest("REUNIA", 10));
+        assertEquals(List.of("Reunião semanal"), index.suggest("reuniã", 10));
+    }
+
+    @Test
+    void collapsesDuplicateTitlesToMostRecent() {
+        index.add("Pagar aluguel", 1, 100);
+        index.add("Pagar aluguel", 2, 500);
+        index.add("Pagar aluguel", 3, 200);
+        index.add("PAGAR ALUGUEL", 4, 900);
+        index.add("Pagar condomínio", 5, 300);
+
+        assertEquals(List.of("PAGAR ALUGUEL", "Pagar condomínio"), index.suggest("pagar", 10));
+    }
+
+    @Test
+    void keepsMostRecentTitlesWithinLimit() {
+        index.add("Tarefa A", 1, 300);
+        index.add("Tarefa B", 2, 500);
+        index.add("Tarefa C", 3, 100);
+        index.add("Tarefa D", 4, 400);
+        index.add("Tarefa E", 5, 200);
+
+        assertEquals(List.of("Tarefa B", "Tarefa D"), index.suggest("tarefa", 2));
+    }
+
+    @Test
+    void addingSameTaskAgainUpdatesRecency() {
+        index.add("Tarefa A", 1, 100);
+        index.add("Tarefa B", 2, 200);
+
+        index.add("Tarefa A", 1, 300);
+
+        assertEquals(List.of("Tarefa A", "Tarefa B"), index.suggest("tarefa", 10));
+    }
+
+    @Test
+    void removeDropsOnlyThatTask() {
+        index.add("Pagar aluguel", 1, 100);
+        index.add("Pagar aluguel", 2, 200);
+
+        index.remove("Pagar aluguel", 2);
+        assertEquals(List.of("Pagar aluguel"), index.suggest("pag", 10));
+
+        // Título diferente do indexado: nada a remover
+        index.remove("Pagar conta", 1);
+        assertEquals(List.of("Pagar aluguel"), index.suggest("pag", 10));
+
+        index.remove("Pagar aluguel", 1);
+        assertEquals(List.of(), index.suggest("pag", 10));
+    }
+
+    @Test
+    void findsRangeAmongManyEntries() {
+        // Inserção fora de ordem, além da capacidade inicial dos arrays
+        for (int i = 99; i >= 0; i--) {
+            index.add(String.format("Tarefa %03d", i), i, i);
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 59; i >= 50; i--) {
+            expected.add(String.format("Tarefa %03d", i));
+        }
+        assertEquals(expected, index.suggest("tarefa 05", 20));
+        assertEquals(List.of("Tarefa 000"), index.suggest("tarefa 000", 20));
+        assertEquals(List.of("Tarefa 099"), index.suggest("tarefa 099", 20));
+
+        for (int i = 0; i < 100; i += 2) {
+            index.remove(String.format("Tarefa %03d", i), i);
+        }
+        assertEquals(List.of("Tarefa 059", "Tarefa 057", "Tarefa 055", "Tarefa 053", "Tarefa 051"),
+                index.suggest("tarefa 05", 20));
+    }
+}